@@ -0,0 +1,56 @@
+package ru.effectivemobile.taskmanagementsystem.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Конфиг кэширования.
+ * Кэши строятся на Caffeine с ограничением размера и времени жизни записей и собирают статистику,
+ * которая публикуется в метриках {@code cache.*}. Кэширование отключается свойством {@code spring.cache.type=none}.
+ * Перехватчик кэша выполняется снаружи транзакции, поэтому записи сбрасываются только после ее фиксации.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Имя кэша DTO задач по идентификатору.
+     */
+    public static final String TASKS_CACHE = "tasks";
+
+    /**
+     * Имя кэша снимков пользователей по имени пользователя.
+     */
+    public static final String USERS_CACHE = "users";
+
+    /**
+     * Регистрирует кэш DTO задач с настройками из свойства {@code tasks.cache.spec}.
+     *
+     * @param spec спецификация Caffeine (размер и время жизни записей).
+     * @return {@link CacheManagerCustomizer}.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> tasksCacheCustomizer(
+            @Value("${tasks.cache.spec:maximumSize=10000,expireAfterWrite=30s}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(TASKS_CACHE, Caffeine.from(spec).recordStats().build());
+    }
+
+    /**
+     * Регистрирует кэш снимков пользователей с настройками из свойства {@code users.cache.spec}.
+     * Время жизни записей ограничивает устаревание ролей, измененных в обход приложения.
+     *
+     * @param spec спецификация Caffeine (размер и время жизни записей).
+     * @return {@link CacheManagerCustomizer}.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> usersCacheCustomizer(
+            @Value("${users.cache.spec:maximumSize=10000,expireAfterWrite=60s}") String spec) {
+        return cacheManager -> cacheManager.registerCustomCache(USERS_CACHE, Caffeine.from(spec).recordStats().build());
+    }
+}
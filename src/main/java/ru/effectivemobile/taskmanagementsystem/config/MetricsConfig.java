@@ -0,0 +1,27 @@
+package ru.effectivemobile.taskmanagementsystem.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфиг метрик.
+ * Включает обработку {@link io.micrometer.core.annotation.Timed} на бинах: сервисы задач, пользователей и JWT
+ * публикуют таймеры с тегами {@code class} и {@code method}. Время обработки каждого эндпоинта контроллеров
+ * публикует Spring MVC в таймере {@code http.server.requests} с тегом {@code uri}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Создает аспект, измеряющий время методов, помеченных {@link io.micrometer.core.annotation.Timed}.
+     *
+     * @param meterRegistry реестр метрик.
+     * @return {@link TimedAspect}.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -1,9 +1,11 @@
 package ru.effectivemobile.taskmanagementsystem.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import ru.effectivemobile.taskmanagementsystem.security.MeteredPasswordEncoder;
 
 /**
  * Конфиг энкодера паролей.
@@ -14,11 +16,13 @@ public class PasswordEncoderConfig {
 
     /**
      * Создает и возвращает бин энкодера с алгоритмом BCrypt.
+     * Каждый вызов энкодера измеряется таймером {@code password.hashing}.
      *
-     * @return {@link BCryptPasswordEncoder}.
+     * @param meterRegistry реестр метрик.
+     * @return {@link BCryptPasswordEncoder}, обернутый в {@link MeteredPasswordEncoder}.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new MeteredPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Конфиг планировщика задач.
+ * Включает выполнение методов, помеченных {@link org.springframework.scheduling.annotation.Scheduled}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -20,6 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import ru.effectivemobile.taskmanagementsystem.security.JwtFilter;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
 import ru.effectivemobile.taskmanagementsystem.service.impl.UserServiceImpl;
 
 /**
@@ -51,6 +52,8 @@ public class SecurityConfig {
                         .requestMatchers("/registration").permitAll()
                         .requestMatchers("/auth").permitAll()
                         .requestMatchers("/refresh").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(Role.ROLE_ADMIN.getAuthority())
 //                        .anyRequest().authenticated())
                         .anyRequest().permitAll())
                 .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
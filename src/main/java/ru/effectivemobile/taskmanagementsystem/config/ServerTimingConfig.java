@@ -0,0 +1,57 @@
+package ru.effectivemobile.taskmanagementsystem.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import ru.effectivemobile.taskmanagementsystem.sql.InspectingDataSourcePostProcessor;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTimingFilter;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTimingJacksonConverter;
+
+/**
+ * Конфиг заголовка {@code Server-Timing}.
+ * Включается свойством {@code serverTiming.enabled}: регистрирует фильтр, открывающий разбивку для каждого запроса,
+ * JSON-конвертер, измеряющий сериализацию, и обертку источника данных, измеряющую время запросов.
+ * При выключенном свойстве эти бины не создаются, а точки замера в коде сводятся к чтению {@link ThreadLocal}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "serverTiming.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    /**
+     * Оборачивает источники данных приложения, чтобы учитывать время запросов к базе данных.
+     *
+     * @return {@link BeanPostProcessor}.
+     */
+    @Bean
+    public static BeanPostProcessor serverTimingDataSourcePostProcessor() {
+        return new InspectingDataSourcePostProcessor();
+    }
+
+    /**
+     * Регистрирует фильтр разбивки времени первым в цепочке, чтобы учитывалась и проверка JWT.
+     *
+     * @return {@link FilterRegistrationBean} с {@link ServerTimingFilter}.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /**
+     * Заменяет JSON-конвертер Spring Boot конвертером, измеряющим время сериализации.
+     *
+     * @param objectMapper настроенный {@link ObjectMapper} приложения.
+     * @return {@link ServerTimingJacksonConverter}.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter serverTimingJacksonConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJacksonConverter(objectMapper);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.effectivemobile.taskmanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.effectivemobile.taskmanagementsystem.sql.InspectingDataSource;
+import ru.effectivemobile.taskmanagementsystem.sql.InspectingDataSourcePostProcessor;
+import ru.effectivemobile.taskmanagementsystem.sql.SqlStatementFilter;
+
+/**
+ * Конфиг учета SQL-запросов по HTTP-запросам.
+ * Включается свойством {@code sql.inspector.enabled}: источник данных оборачивается в {@link InspectingDataSource},
+ * а {@link SqlStatementFilter} добавляет в ответ количество и время запросов и предупреждает о проблеме N+1.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.inspector.enabled", havingValue = "true")
+public class SqlInspectionConfig {
+
+    /**
+     * Оборачивает источники данных приложения в {@link InspectingDataSource}.
+     *
+     * @return {@link BeanPostProcessor}.
+     */
+    @Bean
+    public static BeanPostProcessor inspectingDataSourcePostProcessor() {
+        return new InspectingDataSourcePostProcessor();
+    }
+
+    /**
+     * Регистрирует фильтр учета запросов перед цепочкой фильтров безопасности.
+     *
+     * @param repeatThreshold допустимое количество выполнений одной формы запроса за HTTP-запрос.
+     * @return {@link FilterRegistrationBean} с {@link SqlStatementFilter}.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            @Value("${sql.inspector.repeatThreshold:10}") int repeatThreshold) {
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -44,6 +44,9 @@ public class AuthController {
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "404", description = "User with username not found",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "503", description = "Password hashing is overloaded, retry after the Retry-After delay",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class)))
             })
@@ -90,7 +93,10 @@ public class AuthController {
                                     schema = @Schema(implementation = JwtResponse.class))),
                     @ApiResponse(responseCode = "409", description = "User with username already exists",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = JwtResponse.class)))
+                                    schema = @Schema(implementation = JwtResponse.class))),
+                    @ApiResponse(responseCode = "503", description = "Password hashing is overloaded, retry after the Retry-After delay",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
             })
     @PostMapping("/registration")
     public ResponseEntity<?> registerUser(@Valid @RequestBody RegistrationUserDto registrationUserDto) {
@@ -8,27 +8,50 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkTaskUpdateDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkUpdateResultDto;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.CommentDto;
-import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentsDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskBatchResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskChangeDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskImportResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskStatsDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionRow;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskScope;
 import ru.effectivemobile.taskmanagementsystem.exception.ErrorMessage;
+import ru.effectivemobile.taskmanagementsystem.service.impl.CommentServiceImpl;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskImportServiceImpl;
 import ru.effectivemobile.taskmanagementsystem.service.impl.TaskServiceImpl;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskStreamServiceImpl;
 import ru.effectivemobile.taskmanagementsystem.service.impl.UserServiceImpl;
+import ru.effectivemobile.taskmanagementsystem.util.ETagUtil;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -45,6 +68,9 @@ public class TaskController {
 
     private final TaskServiceImpl taskService;
     private final UserServiceImpl userService;
+    private final CommentServiceImpl commentService;
+    private final TaskImportServiceImpl taskImportService;
+    private final TaskStreamServiceImpl taskStreamService;
 
     /**
      * Создает новую задачу.
@@ -70,9 +96,40 @@ public class TaskController {
         User currentUser = userService.getCurrentUser();
         if (isCurrentUserAdmin(currentUser)) {
             Task task = taskService.taskDtoToTask(taskDto);
-            taskService.createTask(task);
-            TaskDto createdTask = taskService.taskToTaskDto(taskService.getTaskById(task.getId()));
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+            taskService.createTask(task, taskDto.getComments());
+            return ResponseEntity.status(HttpStatus.CREATED).body(taskService.taskToTaskDto(task));
+        } else {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
+                    "You do not have permission to access this resource"));
+        }
+    }
+
+    /**
+     * Создает пакет задач.
+     *
+     * @param taskDtos список DTO задач.
+     * @return {@link ResponseEntity<TaskBatchResultDto>} или сообщение об ошибке.
+     */
+    @Operation(summary = "Create tasks in batch",
+            description = "Allows an admin to create many tasks in one transaction. Invalid items are reported by index "
+                    + "and do not fail the whole batch",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Valid tasks successfully created",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskBatchResultDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Batch is empty or too large",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<?> createTasks(@RequestBody List<TaskDto> taskDtos) {
+        User currentUser = userService.getCurrentUser();
+        if (isCurrentUserAdmin(currentUser)) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(taskDtos));
         } else {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
                     "You do not have permission to access this resource"));
@@ -82,14 +139,21 @@ public class TaskController {
     /**
      * Получает задачу по идентификатору.
      *
-     * @param id идентификатор задачи.
+     * Если заголовок If-None-Match совпадает с ETag текущей версии задачи, возвращается 304 без тела.
+     * Версия берется из DTO, сверенного с версией задачи в базе данных, поэтому запись кэша не приводит
+     * к устаревшему 304.
+     *
+     * @param id         идентификатор задачи.
+     * @param webRequest текущий запрос для проверки If-None-Match.
      * @return {@link ResponseEntity<TaskDto>} или сообщение об ошибке.
      */
-    @Operation(summary = "Get task by ID", description = "Allows the owner or an admin to retrieve a task by its ID",
+    @Operation(summary = "Get task by ID", description = "Allows the owner or an admin to retrieve a task by its ID. "
+            + "With If-None-Match matching the current ETag the task is not sent again",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Task successfully retrieved",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = TaskDto.class))),
+                    @ApiResponse(responseCode = "304", description = "Task has not been modified", content = @Content),
                     @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class))),
@@ -99,11 +163,15 @@ public class TaskController {
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTask(@PathVariable UUID id) {
+    public ResponseEntity<?> getTask(@PathVariable UUID id, WebRequest webRequest) {
         User currentUser = userService.getCurrentUser();
-        Task task = taskService.getTaskById(id);
+        TaskDto task = taskService.getTaskDtoById(id);
         if (isCurrentUserOwner(currentUser, task) || isCurrentUserAdmin(currentUser)) {
-            return ResponseEntity.ok(taskService.taskToTaskDto(task));
+            String eTag = ETagUtil.toETag(task.getVersion());
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(eTag).body(task);
         } else {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
                     "You do not have permission to access this resource"));
@@ -112,26 +180,68 @@ public class TaskController {
 
     /**
      * Обновляет задачу.
+     * Если передан заголовок If-Match, задача обновляется только при совпадении ее текущей версии с ETag.
      *
      * @param id            идентификатор задачи.
+     * @param ifMatch       ETag ожидаемой версии задачи (может быть {@code null}).
      * @param taskForUpdate DTO объекта задачи для обновления.
-     * @return {@link ResponseEntity<TaskDto>}.
+     * @return {@link ResponseEntity<TaskDto>} с ETag новой версии.
      */
-    @Operation(summary = "Update task", description = "Allows an admin or owner to update task details",
+    @Operation(summary = "Update task", description = "Allows an admin or owner to update task details. "
+            + "With If-Match the update is applied only if the task still has the given ETag",
             responses = {
                     @ApiResponse(responseCode = "201", description = "Task successfully updated",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = TaskDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Malformed If-Match header",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "404", description = "Task with id not found",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "409", description = "Task was modified by a concurrent request",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "412", description = "Task version does not match If-Match",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateTask(@PathVariable UUID id, @Valid @RequestBody TaskDto taskForUpdate) {
-        taskService.updateTask(id, taskForUpdate);
-        TaskDto createdTask = taskService.taskToTaskDto(taskService.getTaskById(id));
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+    public ResponseEntity<?> updateTask(@PathVariable UUID id,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                        @Valid @RequestBody TaskDto taskForUpdate) {
+        TaskDto updatedTask = taskService.updateTask(id, taskForUpdate, ETagUtil.parseIfMatch(ifMatch));
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(ETagUtil.toETag(updatedTask.getVersion())).body(updatedTask);
+    }
+
+    /**
+     * Массово обновляет задачи по списку идентификаторов или по фильтру.
+     *
+     * @param bulkTaskUpdateDto DTO с выбором задач и новыми значениями полей.
+     * @return {@link ResponseEntity<BulkUpdateResultDto>} или сообщение об ошибке.
+     */
+    @Operation(summary = "Bulk update tasks",
+            description = "Applies a status, priority or executor change to a list of task IDs or to a filter in one statement. "
+                    + "An admin can change all three fields of any task, an owner can change only the status of own tasks",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks successfully updated",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BulkUpdateResultDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid selection or update data",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "404", description = "Executor not found",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> updateTasks(@Valid @RequestBody BulkTaskUpdateDto bulkTaskUpdateDto) {
+        return ResponseEntity.ok(taskService.updateTasks(bulkTaskUpdateDto));
     }
 
     /**
@@ -168,20 +278,28 @@ public class TaskController {
     /**
      * Получает список задач текущего пользователя с фильтрацией.
      *
-     * @param title    фильтр по заголовку.
-     * @param status   фильтр по статусу.
-     * @param priority фильтр по приоритету.
-     * @param author   фильтр по автору.
-     * @param executor фильтр по исполнителю.
-     * @param pageable объект для пагинации.
-     * @return {@link ResponseEntity<Page>}.
+     * @param title      фильтр по заголовку.
+     * @param status     фильтр по статусу.
+     * @param priority   фильтр по приоритету.
+     * @param author     фильтр по автору.
+     * @param executor   фильтр по исполнителю.
+     * @param after      курсор предыдущей страницы для keyset-пагинации.
+     * @param limit      размер страницы для keyset-пагинации.
+     * @param pageable   объект для пагинации.
+     * @param webRequest текущий запрос для проверки If-None-Match.
+     * @return {@link ResponseEntity<Page>} или {@link ResponseEntity<CursorPageDto>}, если задан курсор или лимит.
      */
     @Operation(summary = "Get tasks created by the current user",
-            description = "Retrieve a paginated and filtered list of tasks assigned to the current user.",
+            description = "Retrieve a paginated and filtered list of tasks assigned to the current user. "
+                    + "With after or limit, tasks are ordered from high to low priority, then by ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = Page.class)))
+                                    schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "304", description = "Tasks have not been modified", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping("/myTasks")
@@ -190,27 +308,52 @@ public class TaskController {
                                                    @RequestParam(required = false) String priority,
                                                    @RequestParam(required = false) String author,
                                                    @RequestParam(required = false) String executor,
-                                                   Pageable pageable) {
-        return ResponseEntity.ok(taskService.getMyTasksWithFilters(title, status, priority, author, executor, pageable));
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   Pageable pageable,
+                                                   WebRequest webRequest) {
+        boolean conditional = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (after != null || limit != null) {
+            if (conditional && webRequest.checkNotModified(taskService.getTasksAfterCursorETag(TaskScope.MY,
+                    title, status, priority, author, executor, after, limit))) {
+                return null;
+            }
+            CursorPageDto<TaskDto> page = taskService.getMyTasksAfterCursor(title, status, priority, author, executor, after, limit);
+            return ResponseEntity.ok().eTag(toListETag(page)).body(page);
+        }
+        if (conditional && webRequest.checkNotModified(taskService.getTasksETag(TaskScope.MY,
+                title, status, priority, author, executor, pageable))) {
+            return null;
+        }
+        Page<TaskDto> page = taskService.getMyTasksWithFilters(title, status, priority, author, executor, pageable);
+        return ResponseEntity.ok().eTag(toListETag(page)).body(page);
     }
 
     /**
      * Получает список задач, назначенных текущему пользователю, с фильтрацией.
      *
-     * @param title    фильтр по заголовку.
-     * @param status   фильтр по статусу.
-     * @param priority фильтр по приоритету.
-     * @param author   фильтр по автору.
-     * @param executor фильтр по исполнителю.
-     * @param pageable объект для пагинации.
-     * @return {@link ResponseEntity<Page>}.
+     * @param title      фильтр по заголовку.
+     * @param status     фильтр по статусу.
+     * @param priority   фильтр по приоритету.
+     * @param author     фильтр по автору.
+     * @param executor   фильтр по исполнителю.
+     * @param after      курсор предыдущей страницы для keyset-пагинации.
+     * @param limit      размер страницы для keyset-пагинации.
+     * @param pageable   объект для пагинации.
+     * @param webRequest текущий запрос для проверки If-None-Match.
+     * @return {@link ResponseEntity<Page>} или {@link ResponseEntity<CursorPageDto>}, если задан курсор или лимит.
      */
     @Operation(summary = "Get tasks assigned to the current user",
-            description = "Retrieve a paginated and filtered list of tasks assigned to the current user",
+            description = "Retrieve a paginated and filtered list of tasks assigned to the current user. "
+                    + "With after or limit, tasks are ordered from high to low priority, then by ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = Page.class)))
+                                    schema = @Schema(implementation = Page.class))),
+                    @ApiResponse(responseCode = "304", description = "Tasks have not been modified", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
             }
     )
     @GetMapping("/assignedTasks")
@@ -219,21 +362,245 @@ public class TaskController {
                                                          @RequestParam(required = false) String priority,
                                                          @RequestParam(required = false) String author,
                                                          @RequestParam(required = false) String executor,
-                                                         Pageable pageable) {
-        return ResponseEntity.ok(taskService.getAssignedTasksWithFilters(title, status, priority, author, executor, pageable));
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         Pageable pageable,
+                                                         WebRequest webRequest) {
+        boolean conditional = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (after != null || limit != null) {
+            if (conditional && webRequest.checkNotModified(taskService.getTasksAfterCursorETag(TaskScope.ASSIGNED,
+                    title, status, priority, author, executor, after, limit))) {
+                return null;
+            }
+            CursorPageDto<TaskDto> page = taskService.getAssignedTasksAfterCursor(title, status, priority, author, executor, after, limit);
+            return ResponseEntity.ok().eTag(toListETag(page)).body(page);
+        }
+        if (conditional && webRequest.checkNotModified(taskService.getTasksETag(TaskScope.ASSIGNED,
+                title, status, priority, author, executor, pageable))) {
+            return null;
+        }
+        Page<TaskDto> page = taskService.getAssignedTasksWithFilters(title, status, priority, author, executor, pageable);
+        return ResponseEntity.ok().eTag(toListETag(page)).body(page);
     }
 
     /**
-     * Получает комментарии задачи.
+     * Выполняет поиск задач текущего пользователя по заголовку и описанию.
      *
-     * @param id идентификатор задачи.
-     * @return {@link ResponseEntity<List>}.
+     * @param q        поисковый запрос.
+     * @param scope    область видимости: созданные ({@code MY}), назначенные ({@code ASSIGNED}) или все ({@code ALL}).
+     * @param pageable объект для пагинации.
+     * @return {@link ResponseEntity<List>} задач, упорядоченных по релевантности.
+     */
+    @Operation(summary = "Search tasks of the current user",
+            description = "Full-text search over title and description of tasks created by or assigned to the current user, "
+                    + "ranked by relevance, with a fuzzy title match fallback",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Search query cannot be blank",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTasks(@RequestParam String q,
+                                         @RequestParam(defaultValue = "ALL") TaskScope scope,
+                                         Pageable pageable) {
+        return ResponseEntity.ok(taskService.searchTasks(q, scope, pageable));
+    }
+
+    /**
+     * Получает статистику задач текущего пользователя.
+     *
+     * @return {@link ResponseEntity<TaskStatsDto>}.
+     */
+    @Operation(summary = "Get task statistics of the current user",
+            description = "Returns counts of tasks created by and assigned to the current user "
+                    + "for every status and priority",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Task statistics",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskStatsDto.class)))
+            }
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDto> getTaskStats() {
+        return ResponseEntity.ok(taskService.getTaskStats());
+    }
+
+    /**
+     * Подписывает текущего пользователя на ленту изменений его задач.
+     *
+     * @return {@link SseEmitter} с событиями изменений.
      */
-    @Operation(summary = "Get comments of a task", description = "Retrieve comments for a specific task by its ID.",
+    @Operation(summary = "Stream changes of the current user's tasks",
+            description = "Server-Sent Events feed of CREATED, UPDATED, BULK_UPDATED, DELETED and COMMENT_ADDED events "
+                    + "for tasks created by or assigned to the current user. Events carry the task id and version; "
+                    + "idle connections receive heartbeat comments. A client that falls behind is disconnected "
+                    + "and should reconnect and reload its tasks",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Subscription opened",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = TaskChangeDto.class))),
+                    @ApiResponse(responseCode = "503", description = "Too many subscribers, retry after the delay "
+                            + "from the Retry-After header",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/stream")
+    public SseEmitter streamTasks() {
+        return taskStreamService.subscribe();
+    }
+
+    /**
+     * Выгружает задачи текущего пользователя с фильтрацией в формате NDJSON или CSV.
+     * Задачи записываются в ответ по мере чтения из базы данных, без постраничной загрузки.
+     *
+     * @param format   формат выгрузки ({@code ndjson} или {@code csv}).
+     * @param scope    область видимости: созданные ({@code MY}), назначенные ({@code ASSIGNED}) или все ({@code ALL}).
+     * @param title    фильтр по заголовку.
+     * @param status   фильтр по статусу.
+     * @param priority фильтр по приоритету.
+     * @param author   фильтр по автору.
+     * @param executor фильтр по исполнителю.
+     * @return {@link ResponseEntity<StreamingResponseBody>} с файлом выгрузки.
+     */
+    @Operation(summary = "Export tasks of the current user",
+            description = "Streams all tasks created by or assigned to the current user that match the filters "
+                    + "as NDJSON (one JSON object per line) or CSV",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Tasks exported successfully",
+                            content = {@Content(mediaType = "application/x-ndjson",
+                                    schema = @Schema(implementation = TaskDto.class)),
+                                    @Content(mediaType = "text/csv")}),
+                    @ApiResponse(responseCode = "400", description = "Invalid format, status or priority",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "ALL") TaskScope scope,
+                                                             @RequestParam(required = false) String title,
+                                                             @RequestParam(required = false) String status,
+                                                             @RequestParam(required = false) String priority,
+                                                             @RequestParam(required = false) String author,
+                                                             @RequestParam(required = false) String executor) {
+        TaskFileFormat fileFormat = TaskFileFormat.of(format);
+        StreamingResponseBody body = taskService.exportTasks(fileFormat, scope, title, status, priority, author, executor);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + fileFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Загружает задачи из файла или продолжает прерванную загрузку.
+     *
+     * @param format   формат файла ({@code ndjson} или {@code csv}).
+     * @param importId идентификатор продолжаемой загрузки.
+     * @param body     содержимое файла; тип содержимого запроса не должен быть формой, иначе тело будет прочитано
+     *                 контейнером как параметры.
+     * @return {@link ResponseEntity<TaskImportResultDto>} или сообщение об ошибке.
+     * @throws IOException если возникает ошибка чтения файла.
+     */
+    @Operation(summary = "Import tasks from a file",
+            description = "Allows an admin to stream NDJSON or CSV (in the export layout) into tasks and comments. "
+                    + "Rows are committed in chunks; an interrupted import is resumed by sending the same file "
+                    + "with its importId. Invalid rows are reported by row index and do not fail the import",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "File imported",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskImportResultDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid format or CSV header",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "404", description = "Import not found",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "409", description = "Import is being processed by another request",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "415", description = "Body must be sent as application/x-ndjson, "
+                            + "text/csv or application/octet-stream", content = @Content)
+            }
+    )
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> importTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                         @RequestParam(required = false) UUID importId,
+                                         InputStream body) throws IOException {
+        User currentUser = userService.getCurrentUser();
+        if (isCurrentUserAdmin(currentUser)) {
+            return ResponseEntity.ok(taskImportService.importTasks(TaskFileFormat.of(format), importId, body));
+        } else {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
+                    "You do not have permission to access this resource"));
+        }
+    }
+
+    /**
+     * Получает состояние загрузки задач.
+     *
+     * @param importId идентификатор загрузки.
+     * @return {@link ResponseEntity<TaskImportResultDto>} или сообщение об ошибке.
+     */
+    @Operation(summary = "Get task import progress",
+            description = "Allows an admin to see how many rows of an import are committed",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import progress",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = TaskImportResultDto.class))),
+                    @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
+                    @ApiResponse(responseCode = "404", description = "Import not found",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)))
+            }
+    )
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<?> getImport(@PathVariable UUID importId) {
+        User currentUser = userService.getCurrentUser();
+        if (isCurrentUserAdmin(currentUser)) {
+            return ResponseEntity.ok(taskImportService.getImport(importId));
+        } else {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
+                    "You do not have permission to access this resource"));
+        }
+    }
+
+    /**
+     * Получает комментарии задачи, используя keyset-пагинацию.
+     * ETag комментариев совпадает с ETag версии задачи: добавление комментария увеличивает версию,
+     * поэтому при совпадении If-None-Match комментарии не читаются. Как и для задачи, версия сверяется
+     * с базой данных, а не берется из кэша.
+     *
+     * @param id         идентификатор задачи.
+     * @param after      курсор предыдущей страницы.
+     * @param limit      размер страницы.
+     * @param webRequest текущий запрос для проверки If-None-Match.
+     * @return {@link ResponseEntity<CursorPageDto>} или сообщение об ошибке.
+     */
+    @Operation(summary = "Get comments of a task",
+            description = "Retrieve comments for a specific task by its ID in creation order. "
+                    + "Pass nextCursor from the previous response as 'after' to get the next page. "
+                    + "With If-None-Match matching the current ETag the comments are not sent again",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Comments retrieved successfully",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = TaskCommentsDto.class))),
+                                    schema = @Schema(implementation = CursorPageDto.class))),
+                    @ApiResponse(responseCode = "304", description = "Comments have not been modified", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit",
+                            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class))),
                     @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class))),
@@ -243,11 +610,18 @@ public class TaskController {
             }
     )
     @GetMapping("/{id}/comments")
-    public ResponseEntity<?> getTaskComments(@PathVariable UUID id) {
+    public ResponseEntity<?> getTaskComments(@PathVariable UUID id,
+                                             @RequestParam(required = false) String after,
+                                             @RequestParam(required = false) Integer limit,
+                                             WebRequest webRequest) {
         User currentUser = userService.getCurrentUser();
-        Task task = taskService.getTaskById(id);
+        TaskDto task = taskService.getTaskDtoById(id);
         if (isCurrentUserOwner(currentUser, task) || isCurrentUserAdmin(currentUser)) {
-            return ResponseEntity.ok(new TaskCommentsDto(task.getId(), task.getComments()));
+            String eTag = ETagUtil.toETag(task.getVersion());
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(eTag).body(commentService.getComments(id, after, limit));
         } else {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
                     "You do not have permission to access this resource"));
@@ -259,13 +633,13 @@ public class TaskController {
      *
      * @param id      идентификатор задачи.
      * @param comment DTO объекта комментария.
-     * @return обновленный список комментариев или сообщение об ошибке.
+     * @return добавленный комментарий или сообщение об ошибке.
      */
     @Operation(summary = "Add comment to a task", description = "Allows the owner or an admin to add a comment to a task.",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "Comment added successfully",
+                    @ApiResponse(responseCode = "201", description = "Comment added successfully",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                                    schema = @Schema(implementation = TaskCommentsDto.class))),
+                                    schema = @Schema(implementation = TaskCommentDto.class))),
                     @ApiResponse(responseCode = "403", description = "You do not have permission to access this resource",
                             content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                                     schema = @Schema(implementation = ErrorMessage.class))),
@@ -276,15 +650,32 @@ public class TaskController {
     )
     @PostMapping("/{id}/comments")
     public ResponseEntity<?> addCommentToTask(@PathVariable UUID id, @Valid @RequestBody CommentDto comment) {
-        User currentUser = userService.getCurrentUser();
-        Task task = taskService.getTaskById(id);
-        task.getComments().add(comment.getComment());
-        taskService.updateTaskComments(task);
-        if (isCurrentUserOwner(currentUser, task) || isCurrentUserAdmin(currentUser)) {
-            return ResponseEntity.ok(new TaskCommentsDto(task.getId(), task.getComments()));
-        } else {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(),
-                    "You do not have permission to access this resource"));
-        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(commentService.addComment(id, comment.getComment()));
+    }
+
+    /**
+     * Формирует ETag страницы задач по идентификаторам и версиям задач и общему количеству задач.
+     *
+     * @param page страница задач.
+     * @return строгий ETag страницы задач.
+     */
+    private static String toListETag(Page<TaskDto> page) {
+        return ETagUtil.toListETag(toVersionRows(page.getContent()), page.getTotalElements());
+    }
+
+    /**
+     * Формирует ETag keyset-страницы задач по идентификаторам и версиям задач и наличию следующей страницы.
+     *
+     * @param page keyset-страница задач.
+     * @return строгий ETag keyset-страницы задач.
+     */
+    private static String toListETag(CursorPageDto<TaskDto> page) {
+        return ETagUtil.toListETag(toVersionRows(page.content()), page.nextCursor() == null ? 0 : 1);
+    }
+
+    private static List<TaskVersionRow> toVersionRows(List<TaskDto> tasks) {
+        return tasks.stream()
+                .map(task -> new TaskVersionRow(task.getId(), task.getVersion()))
+                .toList();
     }
 }
@@ -0,0 +1,10 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+/**
+ * DTO ошибки обработки элемента пакетного запроса.
+ *
+ * @param index   индекс элемента в запросе.
+ * @param message сообщение об ошибке.
+ */
+public record BatchItemErrorDto(int index, String message) {
+}
@@ -0,0 +1,53 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.util.validation.EnumValidation;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO для массового обновления задач.
+ * Задачи выбираются либо по списку идентификаторов, либо по фильтру.
+ * Поля со значением {@code null} не изменяются.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskUpdateDto {
+
+    /**
+     * {@link List<UUID>} идентификаторов задач для обновления.
+     */
+    private List<UUID> ids;
+
+    /**
+     * {@link TaskFilterDto} для выбора задач для обновления.
+     */
+    @Valid
+    private TaskFilterDto filter;
+
+    /**
+     * Новый статус задач в виде строки.
+     */
+    @EnumValidation(enumClass = Status.class, message = "Invalid status")
+    private String status;
+
+    /**
+     * Новый приоритет задач в виде строки.
+     */
+    @EnumValidation(enumClass = Priority.class, message = "Invalid priority")
+    private String priority;
+
+    /**
+     * Новый исполнитель задач (имя пользователя).
+     */
+    private String executor;
+}
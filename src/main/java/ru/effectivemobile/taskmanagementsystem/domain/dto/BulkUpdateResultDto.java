@@ -0,0 +1,9 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+/**
+ * DTO ответа на массовое обновление задач.
+ *
+ * @param updated количество обновленных задач.
+ */
+public record BulkUpdateResultDto(int updated) {
+}
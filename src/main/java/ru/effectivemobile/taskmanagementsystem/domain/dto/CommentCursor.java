@@ -0,0 +1,42 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import ru.effectivemobile.taskmanagementsystem.util.CursorUtil;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+/**
+ * Позиция в списке комментариев задачи при keyset-пагинации.
+ * Комментарии упорядочены по стабильному ключу (created_at, id).
+ *
+ * @param createdAt дата создания последнего комментария на странице.
+ * @param id        идентификатор последнего комментария на странице.
+ */
+public record CommentCursor(LocalDateTime createdAt, UUID id) {
+
+    /**
+     * Кодирует позицию в непрозрачный курсор.
+     *
+     * @return {@link String}.
+     */
+    public String encode() {
+        return CursorUtil.encode(createdAt.toString(), id.toString());
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param cursor курсор.
+     * @return {@link CommentCursor}.
+     * @throws IllegalArgumentException если курсор некорректен.
+     */
+    public static CommentCursor decode(String cursor) throws IllegalArgumentException {
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return new CommentCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import java.util.List;
+
+/**
+ * DTO страницы при keyset-пагинации.
+ * Содержит элементы страницы и курсор для получения следующей страницы.
+ *
+ * @param content    элементы страницы.
+ * @param nextCursor курсор следующей страницы или {@code null}, если страница последняя.
+ * @param <T>        тип элементов страницы.
+ */
+public record CursorPageDto<T>(List<T> content, String nextCursor) {
+}
@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import java.util.List;
+
+/**
+ * DTO ответа на пакетное создание задач.
+ * Содержит созданные задачи и ошибки элементов, которые не прошли проверку.
+ *
+ * @param created созданные задачи.
+ * @param errors  ошибки элементов запроса.
+ */
+public record TaskBatchResultDto(List<TaskDto> created, List<BatchItemErrorDto> errors) {
+}
@@ -0,0 +1,16 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeType;
+
+import java.util.UUID;
+
+/**
+ * DTO события ленты изменений задач.
+ * Содержит только идентификатор и версию задачи: актуальное состояние клиент запрашивает сам.
+ *
+ * @param type    тип изменения.
+ * @param taskId  идентификатор задачи ({@code null} для массового обновления).
+ * @param version версия задачи после изменения ({@code null}, если не известна).
+ */
+public record TaskChangeDto(TaskChangeType type, UUID taskId, Long version) {
+}
@@ -0,0 +1,14 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO комментария к задаче.
+ *
+ * @param id        идентификатор комментария.
+ * @param comment   текст комментария.
+ * @param createdAt дата и время создания комментария.
+ */
+public record TaskCommentDto(UUID id, String comment, LocalDateTime createdAt) {
+}
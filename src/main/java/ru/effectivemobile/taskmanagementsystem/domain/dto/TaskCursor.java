@@ -0,0 +1,42 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.util.CursorUtil;
+
+import java.util.UUID;
+
+/**
+ * Позиция в списке задач при keyset-пагинации.
+ * Задачи упорядочены по стабильному ключу (priority_rank, id): от высокого приоритета к низкому,
+ * внутри приоритета - по идентификатору.
+ *
+ * @param priority приоритет последней задачи на странице.
+ * @param id       идентификатор последней задачи на странице.
+ */
+public record TaskCursor(Priority priority, UUID id) {
+
+    /**
+     * Кодирует позицию в непрозрачный курсор.
+     *
+     * @return {@link String}.
+     */
+    public String encode() {
+        return CursorUtil.encode(priority.name(), id.toString());
+    }
+
+    /**
+     * Декодирует курсор, полученный от клиента.
+     *
+     * @param cursor курсор.
+     * @return {@link TaskCursor}.
+     * @throws IllegalArgumentException если курсор некорректен.
+     */
+    public static TaskCursor decode(String cursor) throws IllegalArgumentException {
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return new TaskCursor(Priority.valueOf(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
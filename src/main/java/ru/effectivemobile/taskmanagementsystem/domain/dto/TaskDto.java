@@ -81,4 +81,10 @@ public class TaskDto {
      */
     @NotBlank(message = "Executor cannot be blank")
     private String executor;
+
+    /**
+     * Версия задачи.
+     * Заполняется сервером и не учитывается при сохранении: для условного обновления используется заголовок If-Match.
+     */
+    private Long version;
 }
@@ -0,0 +1,58 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.util.validation.EnumValidation;
+
+/**
+ * DTO фильтра задач.
+ * Фильтры со значением {@code null} не применяются.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFilterDto {
+
+    /**
+     * Заголовок задачи.
+     */
+    private String title;
+
+    /**
+     * Статус задачи в виде строки.
+     * Должен быть валидным значением из перечисления Status.
+     */
+    @EnumValidation(enumClass = Status.class, message = "Invalid status")
+    private String status;
+
+    /**
+     * Приоритет задачи в виде строки.
+     * Должен быть валидным значением из перечисления Priority.
+     */
+    @EnumValidation(enumClass = Priority.class, message = "Invalid priority")
+    private String priority;
+
+    /**
+     * Автор задачи (имя пользователя).
+     */
+    private String author;
+
+    /**
+     * Исполнитель задачи (имя пользователя).
+     */
+    private String executor;
+
+    /**
+     * Проверяет, задан ли хотя бы один фильтр.
+     *
+     * @return true, если задан хотя бы один фильтр.
+     */
+    public boolean hasAnyCriteria() {
+        return title != null || status != null || priority != null || author != null || executor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.ImportStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO отчета о загрузке задач из файла.
+ * Строки, отклоненные при проверке, перечисляются по номеру строки данных в файле.
+ *
+ * @param importId      идентификатор загрузки, по которому ее можно продолжить.
+ * @param status        статус загрузки.
+ * @param processedRows количество обработанных строк файла, зафиксированных в базе данных.
+ * @param importedRows  количество загруженных задач.
+ * @param rejectedRows  количество отклоненных строк.
+ * @param errors        ошибки строк, обнаруженные в текущем запросе (не более {@code tasks.import.maxErrors}).
+ */
+public record TaskImportResultDto(UUID importId, ImportStatus status, long processedRows, long importedRows,
+                                  long rejectedRows, List<BatchItemErrorDto> errors) {
+}
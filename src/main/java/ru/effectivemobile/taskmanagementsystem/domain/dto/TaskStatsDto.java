@@ -0,0 +1,16 @@
+package ru.effectivemobile.taskmanagementsystem.domain.dto;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+
+import java.util.Map;
+
+/**
+ * DTO статистики задач пользователя.
+ * Содержит количество задач для каждого сочетания статуса и приоритета, включая нулевые.
+ *
+ * @param authored количество созданных пользователем задач по статусу и приоритету.
+ * @param assigned количество назначенных пользователю задач по статусу и приоритету.
+ */
+public record TaskStatsDto(Map<Status, Map<Priority, Long>> authored, Map<Status, Map<Priority, Long>> assigned) {
+}
@@ -0,0 +1,22 @@
+package ru.effectivemobile.taskmanagementsystem.domain.entity;
+
+/**
+ * Enum для статуса загрузки задач из файла.
+ */
+public enum ImportStatus {
+
+    /**
+     * Выполняется или была прервана и может быть продолжена.
+     */
+    IN_PROGRESS,
+
+    /**
+     * Файл загружен полностью.
+     */
+    COMPLETED,
+
+    /**
+     * Завершилась ошибкой и может быть продолжена.
+     */
+    FAILED
+}
@@ -1,20 +1,31 @@
 package ru.effectivemobile.taskmanagementsystem.domain.entity;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
 /**
  * Enum для приоритета задачи.
  */
+@Getter
+@RequiredArgsConstructor
 public enum Priority {
 
     /**
      * Низкий.
      */
-    LOW,
+    LOW(2),
     /**
      * Обычный.
      */
-    NORMAL,
+    NORMAL(1),
     /**
      * Высокий.
      */
-    HIGH
+    HIGH(0);
+
+    /**
+     * Ранг приоритета в порядке списков задач: задачи с меньшим рангом идут раньше.
+     * Совпадает со значением столбца {@code tasks.priority_rank}.
+     */
+    private final int rank;
 }
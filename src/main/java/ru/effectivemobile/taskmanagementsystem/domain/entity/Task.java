@@ -1,9 +1,7 @@
 package ru.effectivemobile.taskmanagementsystem.domain.entity;
 
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -14,13 +12,13 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -65,12 +63,10 @@ public class Task {
     private Priority priority;
 
     /**
-     * {@link List<String>} с комментариями к задаче.
+     * Ранг {@link Priority} задачи, вычисляемый базой данных. Используется для сортировки по важности.
      */
-    @ElementCollection
-    @CollectionTable(name = "task_comments", joinColumns = @JoinColumn(name = "task_id"))
-    @Column(name = "comment")
-    private List<String> comments;
+    @Column(name = "priority_rank", insertable = false, updatable = false)
+    private Short priorityRank;
 
     /**
      * {@link User}, являющийся автором задачи.
@@ -85,4 +81,11 @@ public class Task {
     @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinColumn(name = "executor")
     private User executor;
+
+    /**
+     * Версия задачи для оптимистической блокировки.
+     * Увеличивается при каждом изменении задачи.
+     */
+    @Version
+    private Long version;
 }
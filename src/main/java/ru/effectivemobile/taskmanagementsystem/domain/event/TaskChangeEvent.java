@@ -0,0 +1,15 @@
+package ru.effectivemobile.taskmanagementsystem.domain.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Событие изменения задачи, публикуемое сервисами и доставляемое подписчикам после фиксации транзакции.
+ *
+ * @param type       тип изменения.
+ * @param taskId     идентификатор задачи ({@code null} для массового обновления).
+ * @param version    версия задачи после изменения ({@code null}, если не известна).
+ * @param recipients имена пользователей, которым доставляется событие: авторы и исполнители задачи.
+ */
+public record TaskChangeEvent(TaskChangeType type, UUID taskId, Long version, Set<String> recipients) {
+}
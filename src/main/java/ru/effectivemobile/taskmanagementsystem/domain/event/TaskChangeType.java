@@ -0,0 +1,32 @@
+package ru.effectivemobile.taskmanagementsystem.domain.event;
+
+/**
+ * Enum для типа изменения задачи в ленте событий.
+ */
+public enum TaskChangeType {
+
+    /**
+     * Задача создана.
+     */
+    CREATED,
+
+    /**
+     * Задача изменена.
+     */
+    UPDATED,
+
+    /**
+     * Задачи изменены массовым обновлением; затронутые задачи не перечисляются.
+     */
+    BULK_UPDATED,
+
+    /**
+     * Задача удалена.
+     */
+    DELETED,
+
+    /**
+     * К задаче добавлен комментарий.
+     */
+    COMMENT_ADDED
+}
@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * Проекция комментария задачи.
+ * Используется для пакетной загрузки комментариев страницы задач одним запросом.
+ *
+ * @param taskId  идентификатор задачи.
+ * @param comment текст комментария.
+ */
+public record TaskCommentRow(UUID taskId, String comment) {
+}
@@ -0,0 +1,24 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Проверенная строка загрузки задач, готовая к записи через {@code COPY}.
+ * Автор и исполнитель заданы идентификаторами, поэтому запись не требует загрузки пользователей.
+ *
+ * @param id          идентификатор задачи.
+ * @param title       заголовок задачи.
+ * @param description описание задачи.
+ * @param status      статус задачи.
+ * @param priority    приоритет задачи.
+ * @param author      идентификатор автора.
+ * @param executor    идентификатор исполнителя.
+ * @param comments    комментарии к задаче.
+ */
+public record TaskCopyRow(UUID id, String title, String description, Status status, Priority priority,
+                          UUID author, UUID executor, List<String> comments) {
+}
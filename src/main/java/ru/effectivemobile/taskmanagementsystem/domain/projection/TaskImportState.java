@@ -0,0 +1,21 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.ImportStatus;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+
+import java.util.UUID;
+
+/**
+ * Проекция состояния загрузки задач из таблицы {@code task_imports}.
+ *
+ * @param id            идентификатор загрузки.
+ * @param createdBy     имя пользователя, начавшего загрузку.
+ * @param format        формат файла.
+ * @param status        статус загрузки.
+ * @param processedRows количество обработанных строк файла, зафиксированных в базе данных.
+ * @param importedRows  количество загруженных задач.
+ * @param rejectedRows  количество отклоненных строк.
+ */
+public record TaskImportState(UUID id, String createdBy, TaskFileFormat format, ImportStatus status,
+                              long processedRows, long importedRows, long rejectedRows) {
+}
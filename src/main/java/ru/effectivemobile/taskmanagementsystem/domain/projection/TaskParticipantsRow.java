@@ -0,0 +1,14 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * Проекция идентификатора задачи с именами ее автора и исполнителя.
+ * Используется массовым обновлением, чтобы доставить событие всем участникам затронутых задач.
+ *
+ * @param id       идентификатор задачи.
+ * @param author   имя пользователя автора.
+ * @param executor имя пользователя исполнителя.
+ */
+public record TaskParticipantsRow(UUID id, String author, String executor) {
+}
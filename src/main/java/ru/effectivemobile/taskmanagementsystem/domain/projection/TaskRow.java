@@ -0,0 +1,23 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+
+import java.util.UUID;
+
+/**
+ * Проекция строки списка задач.
+ * Формируется одним SQL-запросом вместе с именами автора и исполнителя, без загрузки сущностей.
+ *
+ * @param id          идентификатор задачи.
+ * @param title       заголовок задачи.
+ * @param description описание задачи.
+ * @param status      статус задачи.
+ * @param priority    приоритет задачи.
+ * @param author      имя автора задачи.
+ * @param executor    имя исполнителя задачи.
+ * @param version     версия задачи.
+ */
+public record TaskRow(UUID id, String title, String description, Status status, Priority priority,
+                      String author, String executor, Long version) {
+}
@@ -0,0 +1,15 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+
+/**
+ * Проекция счетчика задач пользователя из таблицы {@code task_stats}.
+ *
+ * @param assigned  true для счетчика назначенных задач, false для счетчика созданных.
+ * @param status    статус задач.
+ * @param priority  приоритет задач.
+ * @param taskCount количество задач.
+ */
+public record TaskStatsRow(boolean assigned, Status status, Priority priority, long taskCount) {
+}
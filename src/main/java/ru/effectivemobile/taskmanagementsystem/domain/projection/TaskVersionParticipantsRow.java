@@ -0,0 +1,12 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+/**
+ * Проекция новой версии задачи с именами ее автора и исполнителя.
+ * Возвращается увеличением версии задачи, чтобы проверить права и доставить событие без отдельного чтения задачи.
+ *
+ * @param version  новая версия задачи.
+ * @param author   имя пользователя автора.
+ * @param executor имя пользователя исполнителя.
+ */
+public record TaskVersionParticipantsRow(Long version, String author, String executor) {
+}
@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * Проекция идентификатора и версии задачи.
+ * Используется для вычисления ETag списка задач без чтения остальных полей и комментариев.
+ *
+ * @param id      идентификатор задачи.
+ * @param version версия задачи.
+ */
+public record TaskVersionRow(UUID id, Long version) {
+}
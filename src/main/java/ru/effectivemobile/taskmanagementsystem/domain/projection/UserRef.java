@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import java.util.UUID;
+
+/**
+ * Проекция пользователя, содержащая только идентификатор и имя.
+ * Используется для разрешения имен пользователей без загрузки ролей.
+ *
+ * @param id       идентификатор пользователя.
+ * @param username имя пользователя.
+ */
+public record UserRef(UUID id, String username) {
+}
@@ -0,0 +1,41 @@
+package ru.effectivemobile.taskmanagementsystem.domain.projection;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Неизменяемый снимок пользователя, достаточный для проверки прав доступа.
+ * Используется для кэширования текущего пользователя без пароля и связанных задач.
+ *
+ * @param id       идентификатор пользователя.
+ * @param username имя пользователя.
+ * @param roles    роли пользователя.
+ */
+public record UserSnapshot(UUID id, String username, Set<Role> roles) {
+
+    /**
+     * Создает снимок из сущности пользователя.
+     *
+     * @param user сущность пользователя.
+     * @return {@link UserSnapshot}.
+     */
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getUsername(), Set.copyOf(user.getRoles()));
+    }
+
+    /**
+     * Создает несвязанную с контекстом персистентности сущность пользователя из снимка.
+     *
+     * @return {@link User} с идентификатором, именем и ролями.
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .roles(roles)
+                .build();
+    }
+}
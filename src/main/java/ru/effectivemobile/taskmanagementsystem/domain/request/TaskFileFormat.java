@@ -0,0 +1,48 @@
+package ru.effectivemobile.taskmanagementsystem.domain.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Enum для формата файла задач при выгрузке и загрузке.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskFileFormat {
+
+    /**
+     * JSON-объекты, по одному на строку.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * Значения, разделенные запятыми, с заголовком.
+     */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    /**
+     * Тип содержимого ответа.
+     */
+    private final String contentType;
+
+    /**
+     * Расширение файла.
+     */
+    private final String extension;
+
+    /**
+     * Возвращает формат файла по названию без учета регистра.
+     *
+     * @param format название формата.
+     * @return {@link TaskFileFormat}.
+     * @throws IllegalArgumentException если формат не поддерживается.
+     */
+    public static TaskFileFormat of(String format) throws IllegalArgumentException {
+        for (TaskFileFormat fileFormat : values()) {
+            if (fileFormat.name().equalsIgnoreCase(format)) {
+                return fileFormat;
+            }
+        }
+        throw new IllegalArgumentException("Invalid file format");
+    }
+}
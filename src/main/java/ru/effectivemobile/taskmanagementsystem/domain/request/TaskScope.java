@@ -0,0 +1,22 @@
+package ru.effectivemobile.taskmanagementsystem.domain.request;
+
+/**
+ * Enum для области видимости задач текущего пользователя.
+ */
+public enum TaskScope {
+
+    /**
+     * Задачи, созданные пользователем.
+     */
+    MY,
+
+    /**
+     * Задачи, назначенные пользователю.
+     */
+    ASSIGNED,
+
+    /**
+     * Задачи, созданные пользователем или назначенные ему.
+     */
+    ALL
+}
@@ -0,0 +1,27 @@
+package ru.effectivemobile.taskmanagementsystem.exception;
+
+import lombok.Getter;
+
+/**
+ * Исключение используется для обозначения временной перегрузки сервиса.
+ * Содержит рекомендуемую задержку перед повторным запросом.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Рекомендуемая задержка перед повторным запросом в секундах.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Конструктор с параметрами. Создает исключение с указанным сообщением и задержкой.
+     *
+     * @param message           сообщение об ошибке
+     * @param retryAfterSeconds рекомендуемая задержка перед повторным запросом в секундах
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
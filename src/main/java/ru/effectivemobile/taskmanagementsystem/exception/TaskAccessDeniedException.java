@@ -0,0 +1,22 @@
+package ru.effectivemobile.taskmanagementsystem.exception;
+
+/**
+ * Исключение используется для обозначения ошибок, если у текущего пользователя нет прав на изменение задачи.
+ */
+public class TaskAccessDeniedException extends RuntimeException {
+
+    /**
+     * Конструктор без параметров. Создает исключение с пустым сообщением.
+     */
+    public TaskAccessDeniedException() {
+    }
+
+    /**
+     * Конструктор с параметром. Создает исключение с указанным сообщением.
+     *
+     * @param message сообщение об ошибке
+     */
+    public TaskAccessDeniedException(String message) {
+        super(message);
+    }
+}
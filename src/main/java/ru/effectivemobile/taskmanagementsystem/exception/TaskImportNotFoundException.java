@@ -0,0 +1,22 @@
+package ru.effectivemobile.taskmanagementsystem.exception;
+
+/**
+ * Исключение используется для обозначения ошибок, если загрузка задач не найдена.
+ */
+public class TaskImportNotFoundException extends RuntimeException {
+
+    /**
+     * Конструктор без параметров. Создает исключение с пустым сообщением.
+     */
+    public TaskImportNotFoundException() {
+    }
+
+    /**
+     * Конструктор с параметром. Создает исключение с указанным сообщением.
+     *
+     * @param message сообщение об ошибке
+     */
+    public TaskImportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package ru.effectivemobile.taskmanagementsystem.exception;
+
+/**
+ * Исключение используется для обозначения несовпадения версии задачи с ожидаемой клиентом.
+ */
+public class TaskVersionMismatchException extends RuntimeException {
+
+    /**
+     * Конструктор без параметров. Создает исключение с пустым сообщением.
+     */
+    public TaskVersionMismatchException() {
+    }
+
+    /**
+     * Конструктор с параметром. Создает исключение с указанным сообщением.
+     *
+     * @param message сообщение об ошибке
+     */
+    public TaskVersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package ru.effectivemobile.taskmanagementsystem.handler;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,7 +12,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.effectivemobile.taskmanagementsystem.exception.AuthException;
 import ru.effectivemobile.taskmanagementsystem.exception.ErrorMessage;
 import ru.effectivemobile.taskmanagementsystem.exception.JwtException;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskAccessDeniedException;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskImportNotFoundException;
 import ru.effectivemobile.taskmanagementsystem.exception.TaskNotFoundException;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskVersionMismatchException;
 import ru.effectivemobile.taskmanagementsystem.exception.UserAlreadyExistsException;
 import ru.effectivemobile.taskmanagementsystem.exception.UserNotFoundException;
 
@@ -112,4 +118,62 @@ public class ControllerExceptionHandler {
     protected ResponseEntity<ErrorMessage> handleTaskNotFoundException(TaskNotFoundException exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorMessage(HttpStatus.NOT_FOUND.value(), exception.getMessage()));
     }
+
+    /**
+     * Обрабатывает исключение, когда у пользователя нет прав на изменение задачи.
+     *
+     * @param exception исключение {@link TaskAccessDeniedException}
+     * @return {@link ResponseEntity} с ошибкой и статусом 403 (FORBIDDEN)
+     */
+    @ExceptionHandler(TaskAccessDeniedException.class)
+    protected ResponseEntity<ErrorMessage> handleTaskAccessDeniedException(TaskAccessDeniedException exception) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorMessage(HttpStatus.FORBIDDEN.value(), exception.getMessage()));
+    }
+
+    /**
+     * Обрабатывает исключение, когда загрузка задач не найдена.
+     *
+     * @param exception исключение {@link TaskImportNotFoundException}
+     * @return {@link ResponseEntity} с ошибкой и статусом 404 (NOT_FOUND)
+     */
+    @ExceptionHandler(TaskImportNotFoundException.class)
+    protected ResponseEntity<ErrorMessage> handleTaskImportNotFoundException(TaskImportNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorMessage(HttpStatus.NOT_FOUND.value(), exception.getMessage()));
+    }
+
+    /**
+     * Обрабатывает исключение, когда версия задачи не совпадает с ожидаемой клиентом.
+     *
+     * @param exception исключение {@link TaskVersionMismatchException}
+     * @return {@link ResponseEntity} с ошибкой и статусом 412 (PRECONDITION_FAILED)
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    protected ResponseEntity<ErrorMessage> handleTaskVersionMismatchException(TaskVersionMismatchException exception) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ErrorMessage(HttpStatus.PRECONDITION_FAILED.value(), exception.getMessage()));
+    }
+
+    /**
+     * Обрабатывает исключение, когда сущность была изменена конкурентным запросом.
+     *
+     * @param exception исключение {@link OptimisticLockingFailureException}
+     * @return {@link ResponseEntity} с ошибкой и статусом 409 (CONFLICT)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorMessage(HttpStatus.CONFLICT.value(),
+                "Resource was modified by a concurrent request"));
+    }
+
+    /**
+     * Обрабатывает исключение, когда сервис временно перегружен.
+     *
+     * @param exception исключение {@link ServiceOverloadedException}
+     * @return {@link ResponseEntity} с ошибкой, заголовком Retry-After и статусом 503 (SERVICE_UNAVAILABLE)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    protected ResponseEntity<ErrorMessage> handleServiceOverloadedException(ServiceOverloadedException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(new ErrorMessage(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getMessage()));
+    }
 }
@@ -0,0 +1,72 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Comment;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCommentRow;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Репозиторий для работы с комментариями к задачам.
+ */
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, UUID> {
+
+    /**
+     * Возвращает тексты комментариев для набора задач одним запросом в порядке их создания.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return {@link List<TaskCommentRow>}.
+     */
+    @Query("""
+            SELECT new ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCommentRow(c.task.id, c.text)
+            FROM Comment c
+            WHERE c.task.id IN :taskIds
+            ORDER BY c.createdAt, c.id
+            """)
+    List<TaskCommentRow> findCommentsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Возвращает первую страницу комментариев задачи в порядке (created_at, id).
+     *
+     * @param taskId идентификатор задачи.
+     * @param limit  максимальное количество комментариев.
+     * @return {@link List<TaskCommentDto>}.
+     */
+    @Query("""
+            SELECT new ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto(c.id, c.text, c.createdAt)
+            FROM Comment c
+            WHERE c.task.id = :taskId
+            ORDER BY c.createdAt, c.id
+            """)
+    List<TaskCommentDto> findPageByTaskId(@Param("taskId") UUID taskId, Limit limit);
+
+    /**
+     * Возвращает страницу комментариев задачи, следующих за позицией (createdAt, id).
+     *
+     * @param taskId    идентификатор задачи.
+     * @param createdAt дата создания последнего комментария предыдущей страницы.
+     * @param id        идентификатор последнего комментария предыдущей страницы.
+     * @param limit     максимальное количество комментариев.
+     * @return {@link List<TaskCommentDto>}.
+     */
+    @Query("""
+            SELECT new ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto(c.id, c.text, c.createdAt)
+            FROM Comment c
+            WHERE c.task.id = :taskId
+              AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+            ORDER BY c.createdAt, c.id
+            """)
+    List<TaskCommentDto> findPageByTaskIdAfter(@Param("taskId") UUID taskId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               Limit limit);
+}
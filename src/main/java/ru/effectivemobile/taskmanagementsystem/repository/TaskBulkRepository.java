@@ -0,0 +1,53 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskParticipantsRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionParticipantsRow;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Репозиторий для массовых изменений задач одним SQL-запросом.
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * Блокирует задачи, удовлетворяющие спецификации, до конца транзакции и возвращает их участников.
+     * Задачи блокируются в порядке идентификаторов, поэтому конкурентные массовые обновления не взаимоблокируются.
+     *
+     * @param specification спецификация задач.
+     * @return идентификаторы задач с именами автора и исполнителя.
+     */
+    List<TaskParticipantsRow> lockParticipants(Specification<Task> specification);
+
+    /**
+     * Обновляет статус, приоритет и исполнителя задач, удовлетворяющих спецификации.
+     * Поля со значением {@code null} не изменяются, версия каждой обновленной задачи увеличивается.
+     *
+     * @param specification спецификация задач.
+     * @param status        новый статус (может быть {@code null}).
+     * @param priority      новый приоритет (может быть {@code null}).
+     * @param executor      новый исполнитель (может быть {@code null}).
+     * @return количество обновленных задач.
+     */
+    int updateTasks(Specification<Task> specification, Status status, Priority priority, User executor);
+
+    /**
+     * Увеличивает версию задачи одним запросом UPDATE ... RETURNING, не читая задачу, и возвращает новую версию
+     * вместе с именами автора и исполнителя. Используется при изменениях, которые не затрагивают поля задачи,
+     * но меняют ее представление, например при добавлении комментария. Строка задачи остается заблокированной
+     * до конца транзакции. Перед запросом сбрасываются ожидающие изменения задач, а задача, уже загруженная
+     * в контекст персистентности, отсоединяется, чтобы в нем не осталось задачи с устаревшей версией.
+     * Вызывается в транзакции на запись.
+     *
+     * @param id идентификатор задачи.
+     * @return новая версия задачи с участниками или пустой {@link Optional}, если задача не найдена.
+     */
+    Optional<TaskVersionParticipantsRow> incrementVersion(UUID id);
+}
@@ -0,0 +1,128 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskParticipantsRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionParticipantsRow;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Реализация {@link TaskBulkRepository} на Criteria API.
+ * Спецификация применяется в подзапросе, поэтому в ней можно использовать соединения
+ * с автором и исполнителем, а обновление выполняется одним запросом UPDATE ... WHERE id IN (...).
+ * Версия отдельной задачи увеличивается нативным запросом UPDATE ... RETURNING.
+ */
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private static final String INCREMENT_VERSION_SQL = """
+            UPDATE tasks t SET version = t.version + 1
+            FROM users a, users e
+            WHERE t.id = :id AND a.id = t.author AND e.id = t.executor
+            RETURNING t.version AS version, a.username AS author, e.username AS executor
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Блокирует задачи, удовлетворяющие спецификации, до конца транзакции и возвращает их участников.
+     * Задачи блокируются в порядке идентификаторов, поэтому конкурентные массовые обновления не взаимоблокируются.
+     *
+     * @param specification спецификация задач.
+     * @return идентификаторы задач с именами автора и исполнителя.
+     */
+    @Override
+    public List<TaskParticipantsRow> lockParticipants(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskParticipantsRow> query = cb.createQuery(TaskParticipantsRow.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> author = root.join("author");
+        Join<Task, User> executor = root.join("executor");
+        query.select(cb.construct(TaskParticipantsRow.class,
+                        root.get("id"), author.get("username"), executor.get("username")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    /**
+     * Обновляет статус, приоритет и исполнителя задач, удовлетворяющих спецификации.
+     * Поля со значением {@code null} не изменяются, версия каждой обновленной задачи увеличивается.
+     *
+     * @param specification спецификация задач.
+     * @param status        новый статус (может быть {@code null}).
+     * @param priority      новый приоритет (может быть {@code null}).
+     * @param executor      новый исполнитель (может быть {@code null}).
+     * @return количество обновленных задач.
+     */
+    @Override
+    public int updateTasks(Specification<Task> specification, Status status, Priority priority, User executor) {
+        if (status == null && priority == null && executor == null) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        Subquery<UUID> ids = update.subquery(UUID.class);
+        Root<Task> task = ids.from(Task.class);
+        ids.select(task.get("id")).where(specification.toPredicate(task, cb.createQuery(Task.class), cb));
+        update.where(root.get("id").in(ids));
+        if (status != null) {
+            update.set(root.<Status>get("status"), status);
+        }
+        if (priority != null) {
+            update.set(root.<Priority>get("priority"), priority);
+        }
+        if (executor != null) {
+            update.set(root.<User>get("executor"), executor);
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Увеличивает версию задачи одним запросом UPDATE ... RETURNING, не читая задачу, и возвращает новую версию
+     * вместе с именами автора и исполнителя. Используется при изменениях, которые не затрагивают поля задачи,
+     * но меняют ее представление, например при добавлении комментария. Строка задачи остается заблокированной
+     * до конца транзакции. Перед запросом сбрасываются ожидающие изменения задач, а задача, уже загруженная
+     * в контекст персистентности, отсоединяется, чтобы в нем не осталось задачи с устаревшей версией.
+     * Вызывается в транзакции на запись.
+     *
+     * @param id идентификатор задачи.
+     * @return новая версия задачи с участниками или пустой {@link Optional}, если задача не найдена.
+     */
+    @Override
+    public Optional<TaskVersionParticipantsRow> incrementVersion(UUID id) {
+        List<Tuple> rows = entityManager.unwrap(Session.class)
+                .createNativeQuery(INCREMENT_VERSION_SQL, Tuple.class)
+                .addSynchronizedEntityClass(Task.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        entityManager.detach(entityManager.getReference(Task.class, id));
+        Tuple row = rows.get(0);
+        return Optional.of(new TaskVersionParticipantsRow(row.get("version", Long.class),
+                row.get("author", String.class), row.get("executor", String.class)));
+    }
+}
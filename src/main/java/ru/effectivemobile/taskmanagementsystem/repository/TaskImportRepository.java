@@ -0,0 +1,52 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import ru.effectivemobile.taskmanagementsystem.domain.entity.ImportStatus;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCopyRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskImportState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Репозиторий загрузки задач из файлов: состояние загрузок и запись задач через {@code COPY}.
+ */
+public interface TaskImportRepository {
+
+    /**
+     * Сохраняет новую загрузку.
+     *
+     * @param state начальное состояние загрузки.
+     */
+    void create(TaskImportState state);
+
+    /**
+     * Возвращает состояние загрузки по идентификатору.
+     *
+     * @param id идентификатор загрузки.
+     * @return {@link Optional<TaskImportState>}.
+     */
+    Optional<TaskImportState> findById(UUID id);
+
+    /**
+     * Обновляет статус и счетчики загрузки, если количество обработанных строк не изменилось с момента чтения.
+     *
+     * @param id                    идентификатор загрузки.
+     * @param expectedProcessedRows ожидаемое текущее количество обработанных строк.
+     * @param status                новый статус.
+     * @param processedRows         новое количество обработанных строк.
+     * @param importedRows          новое количество загруженных задач.
+     * @param rejectedRows          новое количество отклоненных строк.
+     * @return true, если загрузка обновлена.
+     */
+    boolean updateProgress(UUID id, long expectedProcessedRows, ImportStatus status,
+                           long processedRows, long importedRows, long rejectedRows);
+
+    /**
+     * Записывает задачи и их комментарии в таблицы {@code tasks} и {@code task_comments} через {@code COPY}.
+     * Выполняется в текущей транзакции.
+     *
+     * @param rows проверенные строки загрузки.
+     */
+    void copyTasks(List<TaskCopyRow> rows);
+}
@@ -0,0 +1,169 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.ImportStatus;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCopyRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskImportState;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Реализация {@link TaskImportRepository} на JDBC.
+ * Задачи и комментарии порции передаются двумя командами {@code COPY ... FROM STDIN} в формате CSV:
+ * это на порядок быстрее пакетных INSERT и не создает сущностей в контексте постоянства.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepositoryImpl implements TaskImportRepository {
+
+    private static final String COPY_TASKS =
+            "COPY tasks (id, title, description, status, priority, author, executor) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_COMMENTS =
+            "COPY task_comments (task_id, comment, created_at) FROM STDIN WITH (FORMAT csv)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Сохраняет новую загрузку.
+     *
+     * @param state начальное состояние загрузки.
+     */
+    @Override
+    public void create(TaskImportState state) {
+        jdbcTemplate.update("""
+                        INSERT INTO task_imports (id, created_by, format, status, processed_rows, imported_rows, rejected_rows)
+                        VALUES (:id, :createdBy, :format, :status, :processedRows, :importedRows, :rejectedRows)
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", state.id())
+                        .addValue("createdBy", state.createdBy())
+                        .addValue("format", state.format().name())
+                        .addValue("status", state.status().name())
+                        .addValue("processedRows", state.processedRows())
+                        .addValue("importedRows", state.importedRows())
+                        .addValue("rejectedRows", state.rejectedRows()));
+    }
+
+    /**
+     * Возвращает состояние загрузки по идентификатору.
+     *
+     * @param id идентификатор загрузки.
+     * @return {@link Optional<TaskImportState>}.
+     */
+    @Override
+    public Optional<TaskImportState> findById(UUID id) {
+        return jdbcTemplate.query("""
+                                SELECT id, created_by, format, status, processed_rows, imported_rows, rejected_rows
+                                FROM task_imports
+                                WHERE id = :id
+                                """,
+                        new MapSqlParameterSource("id", id),
+                        (rs, rowNum) -> new TaskImportState(
+                                rs.getObject("id", UUID.class),
+                                rs.getString("created_by"),
+                                TaskFileFormat.valueOf(rs.getString("format")),
+                                ImportStatus.valueOf(rs.getString("status")),
+                                rs.getLong("processed_rows"),
+                                rs.getLong("imported_rows"),
+                                rs.getLong("rejected_rows")))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Обновляет статус и счетчики загрузки, если количество обработанных строк не изменилось с момента чтения.
+     * Условие исключает одновременное продолжение одной загрузки двумя запросами.
+     *
+     * @param id                    идентификатор загрузки.
+     * @param expectedProcessedRows ожидаемое текущее количество обработанных строк.
+     * @param status                новый статус.
+     * @param processedRows         новое количество обработанных строк.
+     * @param importedRows          новое количество загруженных задач.
+     * @param rejectedRows          новое количество отклоненных строк.
+     * @return true, если загрузка обновлена.
+     */
+    @Override
+    public boolean updateProgress(UUID id, long expectedProcessedRows, ImportStatus status,
+                                  long processedRows, long importedRows, long rejectedRows) {
+        return jdbcTemplate.update("""
+                        UPDATE task_imports
+                        SET status = :status, processed_rows = :processedRows, imported_rows = :importedRows,
+                            rejected_rows = :rejectedRows, updated_at = now()
+                        WHERE id = :id AND processed_rows = :expectedProcessedRows
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("expectedProcessedRows", expectedProcessedRows)
+                        .addValue("status", status.name())
+                        .addValue("processedRows", processedRows)
+                        .addValue("importedRows", importedRows)
+                        .addValue("rejectedRows", rejectedRows)) > 0;
+    }
+
+    /**
+     * Записывает задачи и их комментарии в таблицы {@code tasks} и {@code task_comments} через {@code COPY}.
+     * Выполняется на соединении текущей транзакции. Комментарии задачи получают возрастающее на одну
+     * микросекунду время создания, чтобы сохранить их порядок из файла.
+     *
+     * @param rows проверенные строки загрузки.
+     */
+    @Override
+    public void copyTasks(List<TaskCopyRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        StringBuilder tasks = new StringBuilder();
+        StringBuilder comments = new StringBuilder();
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (TaskCopyRow row : rows) {
+            appendRecord(tasks, row.id().toString(), row.title(), row.description(), row.status().name(),
+                    row.priority().name(), row.author().toString(), row.executor().toString());
+            for (String comment : row.comments()) {
+                createdAt = createdAt.plusNanos(1_000);
+                appendRecord(comments, row.id().toString(), comment, createdAt.toString());
+            }
+        }
+        jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_TASKS, new StringReader(tasks.toString()));
+                if (!comments.isEmpty()) {
+                    copyManager.copyIn(COPY_COMMENTS, new StringReader(comments.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Добавляет запись CSV, заключая каждое поле в кавычки.
+     * Поля в кавычках {@code COPY} не интерпретирует как NULL, поэтому пустые строки сохраняются как есть.
+     *
+     * @param builder буфер записей.
+     * @param fields  значения полей.
+     */
+    private static void appendRecord(StringBuilder builder, String... fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('"').append(fields[i].replace("\"", "\"\"")).append('"');
+        }
+        builder.append('\n');
+    }
+}
@@ -1,77 +1,111 @@
 package ru.effectivemobile.taskmanagementsystem.repository;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
-import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
-import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Репозиторий для работы с сущностью {@link Task}.
  * Предоставляет методы для выполнения запросов и фильтрации задач.
+ * Фильтрация списков выполняется через {@link TaskSpecifications} и {@link TaskRowRepository}.
  */
-public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>,
+        TaskRowRepository, TaskBulkRepository {
 
     /**
-     * Находит задачи, созданные текущим пользователем, с учетом заданных фильтров.
+     * Возвращает задачу вместе с автором и исполнителем одним запросом.
      *
-     * @param username имя пользователя (автора задач).
-     * @param title    название задачи (может быть {@code null}).
-     * @param status   статус задачи (может быть {@code null}).
-     * @param priority приоритет задачи (может быть {@code null}).
-     * @param author   автор задачи (может быть {@code null}).
-     * @param executor исполнитель задачи (может быть {@code null}).
-     * @param pageable параметры постраничного вывода.
-     * @return страница задач, соответствующих указанным критериям.
+     * @param id идентификатор задачи.
+     * @return {@link Optional<Task>}.
+     */
+    @EntityGraph(attributePaths = {"author", "executor"})
+    Optional<Task> findWithUsersById(UUID id);
+
+    /**
+     * Выполняет полнотекстовый поиск по заголовку и описанию задач в области видимости пользователя.
+     * Результаты упорядочены по релевантности.
+     *
+     * @param username имя текущего пользователя.
+     * @param scope    область видимости задач ({@code MY}, {@code ASSIGNED} или {@code ALL}).
+     * @param query    поисковый запрос в синтаксисе websearch.
+     * @param limit    максимальное количество задач.
+     * @param offset   смещение.
+     * @return список идентификаторов задач.
      */
     @Query(value = """
-                SELECT t FROM Task t
-                JOIN User u ON t.author = u
-                WHERE u.username = :username
-                  AND (:title IS NULL OR t.title =:title)
-                  AND (:status IS NULL OR t.status = :status)
-                  AND (:priority IS NULL OR t.priority = :priority)
-                  AND (:author IS NULL OR t.author = :author)
-                  AND (:executor IS NULL OR t.executor = :executor)
-            """)
-    Page<Task> findTasksOfCurrentUserWithFilters(
-            @Param("username") String username, @Param("title") String title, @Param("status") Status status,
-            @Param("priority") Priority priority, @Param("author") User author, @Param("executor") User executor,
-            Pageable pageable
-    );
+                SELECT t.id FROM tasks t
+                JOIN users a ON a.id = t.author
+                JOIN users e ON e.id = t.executor
+                WHERE ((:scope <> 'ASSIGNED' AND a.username = :username)
+                       OR (:scope <> 'MY' AND e.username = :username))
+                  AND t.search_vector @@ websearch_to_tsquery('simple', :query)
+                ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', :query)) DESC, t.id
+                LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UUID> searchTaskIds(@Param("username") String username, @Param("scope") String scope,
+                             @Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
 
     /**
-     * Находит задачи, назначенные текущему пользователю, с учетом заданных фильтров.
+     * Проверяет, находит ли полнотекстовый поиск хотя бы одну задачу в области видимости пользователя.
      *
-     * @param username имя пользователя (исполнителя задач).
-     * @param title    название задачи (может быть {@code null}).
-     * @param status   статус задачи (может быть {@code null}).
-     * @param priority приоритет задачи (может быть {@code null}).
-     * @param author   автор задачи (может быть {@code null}).
-     * @param executor исполнитель задачи (может быть {@code null}).
-     * @param pageable параметры постраничного вывода.
-     * @return страница задач, соответствующих указанным критериям.
+     * @param username имя текущего пользователя.
+     * @param scope    область видимости задач ({@code MY}, {@code ASSIGNED} или {@code ALL}).
+     * @param query    поисковый запрос в синтаксисе websearch.
+     * @return true, если есть хотя бы одно совпадение.
      */
     @Query(value = """
-                SELECT t FROM Task t
-                JOIN User u ON t.executor = u
-                WHERE u.username = :username
-                  AND (:title IS NULL OR t.title =:title)
-                  AND (:status IS NULL OR t.status = :status)
-                  AND (:priority IS NULL OR t.priority = :priority)
-                  AND (:author IS NULL OR t.author = :author)
-                  AND (:executor IS NULL OR t.executor = :executor)
-            """)
-    Page<Task> findTasksAssignedToCurrentUserWithFilters(
-            @Param("username") String username, @Param("title") String title, @Param("status") Status status,
-            @Param("priority") Priority priority, @Param("author") User author, @Param("executor") User executor,
-            Pageable pageable
-    );
+                SELECT EXISTS (
+                    SELECT 1 FROM tasks t
+                    JOIN users a ON a.id = t.author
+                    JOIN users e ON e.id = t.executor
+                    WHERE ((:scope <> 'ASSIGNED' AND a.username = :username)
+                           OR (:scope <> 'MY' AND e.username = :username))
+                      AND t.search_vector @@ websearch_to_tsquery('simple', :query))
+            """, nativeQuery = true)
+    boolean existsSearchMatch(@Param("username") String username, @Param("scope") String scope,
+                              @Param("query") String query);
+
+    /**
+     * Выполняет нечеткий поиск по заголовку задач (префикс или триграммное сходство)
+     * в области видимости пользователя. Используется, если полнотекстовый поиск ничего не нашел.
+     *
+     * @param username имя текущего пользователя.
+     * @param scope    область видимости задач ({@code MY}, {@code ASSIGNED} или {@code ALL}).
+     * @param query    поисковый запрос.
+     * @param prefix   шаблон ILIKE для поиска по префиксу.
+     * @param limit    максимальное количество задач.
+     * @param offset   смещение.
+     * @return список идентификаторов задач.
+     */
+    @Query(value = """
+                SELECT t.id FROM tasks t
+                JOIN users a ON a.id = t.author
+                JOIN users e ON e.id = t.executor
+                WHERE ((:scope <> 'ASSIGNED' AND a.username = :username)
+                       OR (:scope <> 'MY' AND e.username = :username))
+                  AND (t.title ILIKE :prefix OR t.title % :query)
+                ORDER BY similarity(t.title, :query) DESC, t.id
+                LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UUID> searchTaskIdsByTitleSimilarity(@Param("username") String username, @Param("scope") String scope,
+                                              @Param("query") String query, @Param("prefix") String prefix,
+                                              @Param("limit") int limit, @Param("offset") long offset);
+
+    /**
+     * Возвращает текущую версию задачи.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link Optional<Long>}.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,55 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionRow;
+
+import java.util.List;
+
+/**
+ * Репозиторий для чтения задач в виде проекций {@link TaskRow} и {@link TaskVersionRow} по спецификации.
+ */
+public interface TaskRowRepository {
+
+    /**
+     * Находит страницу строк задач, удовлетворяющих спецификации.
+     *
+     * @param specification спецификация задач.
+     * @param pageable      параметры постраничного вывода.
+     * @return {@link Page<TaskRow>}.
+     */
+    Page<TaskRow> findRows(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Находит строки задач, удовлетворяющих спецификации, в указанном порядке.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @param limit         максимальное количество строк.
+     * @return {@link List<TaskRow>}.
+     */
+    List<TaskRow> findRows(Specification<Task> specification, Sort sort, int limit);
+
+    /**
+     * Находит страницу идентификаторов и версий задач, удовлетворяющих спецификации.
+     *
+     * @param specification спецификация задач.
+     * @param pageable      параметры постраничного вывода.
+     * @return {@link Page<TaskVersionRow>}.
+     */
+    Page<TaskVersionRow> findVersions(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Находит идентификаторы и версии задач, удовлетворяющих спецификации, в указанном порядке.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @param limit         максимальное количество строк.
+     * @return {@link List<TaskVersionRow>}.
+     */
+    List<TaskVersionRow> findVersions(Specification<Task> specification, Sort sort, int limit);
+}
@@ -0,0 +1,174 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionRow;
+
+import java.util.List;
+
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.authorJoin;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.executorJoin;
+
+/**
+ * Реализация {@link TaskRowRepository} на Criteria API.
+ * Имена автора и исполнителя выбираются в том же запросе, что и задача.
+ */
+public class TaskRowRepositoryImpl implements TaskRowRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Находит страницу строк задач, удовлетворяющих спецификации.
+     * Запрос количества выполняется только если его нельзя вычислить по содержимому страницы.
+     *
+     * @param specification спецификация задач.
+     * @param pageable      параметры постраничного вывода.
+     * @return {@link Page<TaskRow>}.
+     */
+    @Override
+    public Page<TaskRow> findRows(Specification<Task> specification, Pageable pageable) {
+        TypedQuery<TaskRow> query = createRowQuery(specification, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+    }
+
+    /**
+     * Находит строки задач, удовлетворяющих спецификации, в указанном порядке.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @param limit         максимальное количество строк.
+     * @return {@link List<TaskRow>}.
+     */
+    @Override
+    public List<TaskRow> findRows(Specification<Task> specification, Sort sort, int limit) {
+        return createRowQuery(specification, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Находит страницу идентификаторов и версий задач, удовлетворяющих спецификации.
+     * Запрос количества выполняется только если его нельзя вычислить по содержимому страницы.
+     *
+     * @param specification спецификация задач.
+     * @param pageable      параметры постраничного вывода.
+     * @return {@link Page<TaskVersionRow>}.
+     */
+    @Override
+    public Page<TaskVersionRow> findVersions(Specification<Task> specification, Pageable pageable) {
+        TypedQuery<TaskVersionRow> query = createVersionQuery(specification, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(specification));
+    }
+
+    /**
+     * Находит идентификаторы и версии задач, удовлетворяющих спецификации, в указанном порядке.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @param limit         максимальное количество строк.
+     * @return {@link List<TaskVersionRow>}.
+     */
+    @Override
+    public List<TaskVersionRow> findVersions(Specification<Task> specification, Sort sort, int limit) {
+        return createVersionQuery(specification, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Создает запрос строк задач по спецификации.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @return {@link TypedQuery<TaskRow>}.
+     */
+    private TypedQuery<TaskRow> createRowQuery(Specification<Task> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskRow> query = cb.createQuery(TaskRow.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> author = authorJoin(root);
+        Join<Task, User> executor = executorJoin(root);
+        query.select(cb.construct(TaskRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                author.get("username"),
+                executor.get("username"),
+                root.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Создает запрос идентификаторов и версий задач по спецификации.
+     * Пользователи присоединяются только если этого требуют спецификация или сортировка.
+     *
+     * @param specification спецификация задач.
+     * @param sort          порядок сортировки.
+     * @return {@link TypedQuery<TaskVersionRow>}.
+     */
+    private TypedQuery<TaskVersionRow> createVersionQuery(Specification<Task> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskVersionRow> query = cb.createQuery(TaskVersionRow.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.construct(TaskVersionRow.class, root.get("id"), root.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Считает количество задач, удовлетворяющих спецификации.
+     *
+     * @param specification спецификация задач.
+     * @return количество задач.
+     */
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,20 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskStatsRow;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Репозиторий счетчиков задач пользователей.
+ */
+public interface TaskStatsRepository {
+
+    /**
+     * Возвращает счетчики задач пользователя.
+     *
+     * @param userId идентификатор пользователя.
+     * @return {@link List<TaskStatsRow>}; сочетания без задач могут отсутствовать.
+     */
+    List<TaskStatsRow> findByUserId(UUID userId);
+}
@@ -0,0 +1,45 @@
+package ru.effectivemobile.taskmanagementsystem.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskStatsRow;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Реализация {@link TaskStatsRepository} на JDBC.
+ * Таблица {@code task_stats} поддерживается триггерами на {@code tasks} в той же транзакции, что и изменение задач,
+ * поэтому чтение счетчиков не зависит от количества задач пользователя.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskStatsRepositoryImpl implements TaskStatsRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Возвращает ненулевые счетчики задач пользователя по первичному ключу.
+     *
+     * @param userId идентификатор пользователя.
+     * @return {@link List<TaskStatsRow>}.
+     */
+    @Override
+    public List<TaskStatsRow> findByUserId(UUID userId) {
+        return jdbcTemplate.query("""
+                        SELECT role, status, priority, task_count
+                        FROM task_stats
+                        WHERE user_id = :userId AND task_count <> 0
+                        """,
+                new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new TaskStatsRow(
+                        "EXECUTOR".equals(rs.getString("role")),
+                        Status.valueOf(rs.getString("status")),
+                        Priority.valueOf(rs.getString("priority")),
+                        rs.getLong("task_count")));
+    }
+}
@@ -1,8 +1,13 @@
 package ru.effectivemobile.taskmanagementsystem.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.UserRef;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +24,23 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return {@link Optional}, содержащий найденного пользователя, или пустой, если пользователь не найден.
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * Ищет пользователя по имени пользователя вместе с ролями одним запросом.
+     *
+     * @param username имя пользователя для поиска.
+     * @return {@link Optional}, содержащий найденного пользователя, или пустой, если пользователь не найден.
+     */
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.username = :username")
+    Optional<User> findWithRolesByUsername(@Param("username") String username);
+
+    /**
+     * Находит идентификаторы пользователей по списку имен одним запросом, не загружая роли.
+     *
+     * @param usernames имена пользователей.
+     * @return {@link List<UserRef>} найденных пользователей.
+     */
+    @Query("SELECT new ru.effectivemobile.taskmanagementsystem.domain.projection.UserRef(u.id, u.username) "
+            + "FROM User u WHERE u.username IN :usernames")
+    List<UserRef> findRefsByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
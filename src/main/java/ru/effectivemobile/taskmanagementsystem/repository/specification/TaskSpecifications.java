@@ -0,0 +1,165 @@
+package ru.effectivemobile.taskmanagementsystem.repository.specification;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCursor;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Фабрика спецификаций для фильтрации задач.
+ * Предикат строится только из переданных параметров, поэтому планировщик PostgreSQL
+ * получает конкретный запрос и может выбрать подходящий индекс.
+ */
+public class TaskSpecifications {
+
+    /**
+     * Возвращает спецификацию задач, созданных пользователем.
+     *
+     * @param username имя автора.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasAuthor(String username) {
+        return (root, query, cb) -> cb.equal(authorJoin(root).get("username"), username);
+    }
+
+    /**
+     * Возвращает спецификацию задач, назначенных пользователю.
+     *
+     * @param username имя исполнителя.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasExecutor(String username) {
+        return (root, query, cb) -> cb.equal(executorJoin(root).get("username"), username);
+    }
+
+    /**
+     * Возвращает спецификацию задач с указанным заголовком.
+     *
+     * @param title заголовок задачи.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasTitle(String title) {
+        return (root, query, cb) -> cb.equal(root.get("title"), title);
+    }
+
+    /**
+     * Возвращает спецификацию задач с указанным статусом.
+     *
+     * @param status статус задачи.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasStatus(Status status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Возвращает спецификацию задач с указанным приоритетом.
+     *
+     * @param priority приоритет задачи.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Возвращает спецификацию задач с указанными идентификаторами.
+     *
+     * @param ids идентификаторы задач.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> hasIdIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Возвращает спецификацию задач, расположенных после курсора в порядке (priority_rank, id).
+     *
+     * @param cursor позиция последней задачи предыдущей страницы.
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("priorityRank"), (short) cursor.priority().getRank()),
+                cb.and(
+                        cb.equal(root.get("priorityRank"), (short) cursor.priority().getRank()),
+                        cb.greaterThan(root.get("id"), cursor.id())));
+    }
+
+    /**
+     * Собирает спецификацию из переданных фильтров. Фильтры со значением {@code null} не попадают в запрос.
+     *
+     * @param title    заголовок задачи (может быть {@code null}).
+     * @param status   статус задачи (может быть {@code null}).
+     * @param priority приоритет задачи (может быть {@code null}).
+     * @param author   имя автора (может быть {@code null}).
+     * @param executor имя исполнителя (может быть {@code null}).
+     * @return {@link Specification<Task>}.
+     */
+    public static Specification<Task> withFilters(String title, Status status, Priority priority,
+                                                  String author, String executor) {
+        List<Specification<Task>> specifications = new ArrayList<>();
+        if (title != null) {
+            specifications.add(hasTitle(title));
+        }
+        if (status != null) {
+            specifications.add(hasStatus(status));
+        }
+        if (priority != null) {
+            specifications.add(hasPriority(priority));
+        }
+        if (author != null) {
+            specifications.add(hasAuthor(author));
+        }
+        if (executor != null) {
+            specifications.add(hasExecutor(executor));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    /**
+     * Возвращает соединение с автором задачи, переиспользуя уже созданное в запросе.
+     *
+     * @param root корень запроса.
+     * @return {@link Join}.
+     */
+    public static Join<Task, User> authorJoin(From<?, Task> root) {
+        return join(root, "author");
+    }
+
+    /**
+     * Возвращает соединение с исполнителем задачи, переиспользуя уже созданное в запросе.
+     *
+     * @param root корень запроса.
+     * @return {@link Join}.
+     */
+    public static Join<Task, User> executorJoin(From<?, Task> root) {
+        return join(root, "executor");
+    }
+
+    /**
+     * Возвращает внутреннее соединение по атрибуту, создавая его только при отсутствии.
+     *
+     * @param root      корень запроса.
+     * @param attribute имя атрибута.
+     * @return {@link Join}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Join<Task, User> join(From<?, Task> root, String attribute) {
+        return root.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals(attribute) && join.getJoinType() == JoinType.INNER)
+                .map(join -> (Join<Task, User>) join)
+                .findFirst()
+                .orElseGet(() -> root.join(attribute));
+    }
+}
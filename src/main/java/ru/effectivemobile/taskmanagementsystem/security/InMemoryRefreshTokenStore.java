@@ -0,0 +1,95 @@
+package ru.effectivemobile.taskmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.effectivemobile.taskmanagementsystem.util.DigestUtil;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Хранилище refresh-токенов в памяти узла.
+ * Записи удаляются по таймеру в момент истечения токена, количество записей ограничено свойством
+ * {@code jwt.refreshStore.maxSize}. Подходит для запуска приложения на одном узле.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refreshStore.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Cache<String, StoredToken> tokens;
+
+    /**
+     * Создает хранилище.
+     *
+     * @param maxSize максимальное количество хранимых токенов.
+     */
+    public InMemoryRefreshTokenStore(@Value("${jwt.refreshStore.maxSize:100000}") long maxSize) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StoredTokenExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    /**
+     * Сохраняет refresh-токен пользователя, заменяя ранее выданный.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @param expiresAt    момент истечения refresh-токена.
+     */
+    @Override
+    public void save(String username, String refreshToken, Instant expiresAt) {
+        tokens.put(username, new StoredToken(DigestUtil.sha256Hex(refreshToken), expiresAt));
+    }
+
+    /**
+     * Проверяет, что refresh-токен является последним выданным пользователю и еще не истек.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @return true, если токен действителен.
+     */
+    @Override
+    public boolean matches(String username, String refreshToken) {
+        StoredToken stored = tokens.getIfPresent(username);
+        return stored != null
+                && Instant.now().isBefore(stored.expiresAt())
+                && stored.tokenHash().equals(DigestUtil.sha256Hex(refreshToken));
+    }
+
+    /**
+     * Дайджест refresh-токена и момент его истечения.
+     *
+     * @param tokenHash дайджест токена.
+     * @param expiresAt момент истечения токена.
+     */
+    private record StoredToken(String tokenHash, Instant expiresAt) {
+    }
+
+    /**
+     * Политика истечения записей: запись живет до момента истечения своего токена.
+     */
+    private static class StoredTokenExpiry implements Expiry<String, StoredToken> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
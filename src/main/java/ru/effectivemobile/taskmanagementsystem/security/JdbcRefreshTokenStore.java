@@ -0,0 +1,98 @@
+package ru.effectivemobile.taskmanagementsystem.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.effectivemobile.taskmanagementsystem.util.DigestUtil;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Хранилище refresh-токенов в таблице {@code refresh_tokens}.
+ * Позволяет обновлять токены на любом узле без привязки клиента к узлу, выдавшему токен.
+ * Истекшие записи удаляются по расписанию пакетами размером {@code jwt.refreshStore.purgeBatchSize}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refreshStore.type", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.refreshStore.purgeBatchSize:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * Сохраняет refresh-токен пользователя, заменяя ранее выданный.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @param expiresAt    момент истечения refresh-токена.
+     */
+    @Override
+    public void save(String username, String refreshToken, Instant expiresAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO refresh_tokens (username, token_hash, expires_at)
+                        VALUES (:username, :tokenHash, :expiresAt)
+                        ON CONFLICT (username) DO UPDATE
+                        SET token_hash = EXCLUDED.token_hash, expires_at = EXCLUDED.expires_at
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("username", username)
+                        .addValue("tokenHash", DigestUtil.sha256Hex(refreshToken))
+                        .addValue("expiresAt", Timestamp.from(expiresAt)));
+    }
+
+    /**
+     * Проверяет, что refresh-токен является последним выданным пользователю и еще не истек.
+     * Поиск выполняется по hash-индексу дайджеста токена.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @return true, если токен действителен.
+     */
+    @Override
+    public boolean matches(String username, String refreshToken) {
+        List<String> owners = jdbcTemplate.queryForList("""
+                        SELECT username FROM refresh_tokens
+                        WHERE token_hash = :tokenHash AND expires_at > :now
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("tokenHash", DigestUtil.sha256Hex(refreshToken))
+                        .addValue("now", Timestamp.from(Instant.now())),
+                String.class);
+        return owners.contains(username);
+    }
+
+    /**
+     * Удаляет истекшие refresh-токены пакетами, чтобы не держать длинные блокировки.
+     * Строки, заблокированные другими узлами, пропускаются.
+     *
+     * @return количество удаленных токенов.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refreshStore.purgeInterval:PT5M}")
+    public int purgeExpired() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(Instant.now()))
+                .addValue("batchSize", purgeBatchSize);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("""
+                    DELETE FROM refresh_tokens
+                    WHERE username IN (SELECT username FROM refresh_tokens
+                                       WHERE expires_at <= :now
+                                       LIMIT :batchSize
+                                       FOR UPDATE SKIP LOCKED)
+                    """, params);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        return total;
+    }
+}
@@ -1,24 +1,25 @@
 package ru.effectivemobile.taskmanagementsystem.security;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Set;
 
 /**
  * Реализация интерфейса Authentication из Spring Security.
  * Используется для представления информации об аутентификации пользователя на основе JWT-токена.
+ * Объект неизменяем, поэтому один экземпляр может использоваться несколькими запросами с тем же токеном.
  */
 @Getter
-@Setter
 public class JwtAuthentication implements Authentication {
 
-    private boolean authenticated;
-    private String username;
-    private Set<Role> roles;
+    private final boolean authenticated;
+    private final String username;
+    private final Set<Role> roles;
+    private final Instant expiresAt;
 
     /**
      * Конструктор для создания объекта JwtAuthentication.
@@ -28,9 +29,22 @@ public class JwtAuthentication implements Authentication {
      * @param roles         роли пользователя
      */
     public JwtAuthentication(boolean authenticated, String username, Set<Role> roles) {
+        this(authenticated, username, roles, null);
+    }
+
+    /**
+     * Конструктор для создания объекта JwtAuthentication со сроком действия токена.
+     *
+     * @param authenticated статус аутентификации
+     * @param username      имя пользователя
+     * @param roles         роли пользователя
+     * @param expiresAt     момент истечения токена (может быть {@code null})
+     */
+    public JwtAuthentication(boolean authenticated, String username, Set<Role> roles, Instant expiresAt) {
         this.authenticated = authenticated;
         this.username = username;
-        this.roles = roles;
+        this.roles = Set.copyOf(roles);
+        this.expiresAt = expiresAt;
     }
 
     /**
@@ -84,14 +98,16 @@ public class JwtAuthentication implements Authentication {
     }
 
     /**
-     * Устанавливает статус аутентификации пользователя.
+     * Статус аутентификации не изменяется: объект неизменяем.
      *
      * @param isAuthenticated новый статус аутентификации
-     * @throws IllegalArgumentException если передан некорректный статус
+     * @throws IllegalArgumentException если статус отличается от текущего
      */
     @Override
     public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
-        this.authenticated = isAuthenticated;
+        if (isAuthenticated != authenticated) {
+            throw new IllegalArgumentException("JwtAuthentication is immutable");
+        }
     }
 
     /**
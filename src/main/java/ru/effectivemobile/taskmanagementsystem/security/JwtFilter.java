@@ -3,7 +3,6 @@ package ru.effectivemobile.taskmanagementsystem.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -19,11 +18,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 import ru.effectivemobile.taskmanagementsystem.exception.ErrorMessage;
 import ru.effectivemobile.taskmanagementsystem.exception.JwtException;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTiming;
 
 import java.io.IOException;
 
 /**
  * Реализация фильтра Spring Security для обработки JWT-аутентификации.
+ * Время извлечения и проверки токена учитывается в фазе {@code jwt} заголовка {@code Server-Timing}.
  */
 @Component
 @RequiredArgsConstructor
@@ -31,7 +32,7 @@ public class JwtFilter extends GenericFilterBean {
 
     private static final String AUTHORIZATION = "Authorization";
 
-    private final JwtService jwtService;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
 
     /**
      * Обрабатывает запрос: извлекает JWT-токен из cookies или тела запроса, проверяет его
@@ -46,15 +47,16 @@ public class JwtFilter extends GenericFilterBean {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain fc) throws IOException, ServletException {
         try {
+            long start = ServerTiming.startPhase();
             String token = getJwtFromCookie((HttpServletRequest) request);
             if (token == null) {
                 token = getTokenFromRequest((HttpServletRequest) request);
             }
-            if (token != null && jwtService.validateAccessToken(token)) {
-                Claims claims = jwtService.getAccessClaims(token);
-                JwtAuthentication jwtInfoToken = jwtService.generate(claims);
+            if (token != null) {
+                JwtAuthentication jwtInfoToken = tokenAuthenticationCache.authenticate(token);
                 SecurityContextHolder.getContext().setAuthentication(jwtInfoToken);
             }
+            ServerTiming.endPhase(ServerTiming.Phase.JWT, start);
             fc.doFilter(request, response);
         } catch (JwtException e) {
             catchJwtExceptionAndReturnErrorMessage(e, (HttpServletResponse) response);
@@ -2,12 +2,15 @@ package ru.effectivemobile.taskmanagementsystem.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -25,7 +28,9 @@ import java.util.stream.Collectors;
 
 /**
  * Сервис для работы с JWT-токенами, включая их генерацию, валидацию и извлечение данных.
+ * Время выполнения публичных методов публикуется в таймере {@code jwt.service} с тегом {@code method}.
  */
+@Timed(value = "jwt.service", description = "Time spent issuing and verifying tokens")
 @Service
 public class JwtService {
 
@@ -38,6 +43,22 @@ public class JwtService {
     @Value("${jwt.refreshLifetime}")
     private Long refreshTokenLifetime;
 
+    private Key signKey;
+
+    private JwtParser parser;
+
+    /**
+     * Создает ключ подписи и парсер токенов один раз при старте приложения.
+     * {@link JwtParser} неизменяем и потокобезопасен, поэтому используется всеми запросами.
+     */
+    @PostConstruct
+    public void init() {
+        signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+    }
+
     /**
      * Генерирует JWT токен доступа для указанного пользователя.
      *
@@ -54,7 +75,7 @@ public class JwtService {
         return Jwts.builder()
                 .setSubject(user.getUsername())
                 .setExpiration(accessExpiration)
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .claim("roles", user.getRoles())
                 .claim("username", user.getUsername())
                 .compact();
@@ -76,10 +97,32 @@ public class JwtService {
         return Jwts.builder()
                 .setSubject(user.getUsername())
                 .setExpiration(refreshExpiration)
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .compact();
     }
 
+    /**
+     * Проверяет токен доступа и преобразует его в {@link JwtAuthentication}.
+     * Подпись токена проверяется один раз, извлеченные при этом claims используются для аутентификации.
+     *
+     * @param accessToken строка токена доступа.
+     * @return {@link JwtAuthentication}.
+     * @throws JwtException если токен пустой, недействителен или не содержит ролей.
+     */
+    public JwtAuthentication authenticate(String accessToken) throws JwtException {
+        checkToken(accessToken, "Incorrect token");
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(accessToken).getBody();
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            throw new JwtException("Incorrect jwt token");
+        }
+        if (claims.get("roles") == null) {
+            throw new JwtException("Incorrect jwt token");
+        }
+        return generate(claims);
+    }
+
     /**
      * Проверяет валидность токена доступа.
      *
@@ -136,7 +179,8 @@ public class JwtService {
         Set<Role> roles = roleNames.stream()
                 .map(Role::valueOf)
                 .collect(Collectors.toSet());
-        return new JwtAuthentication(true, login, roles);
+        Date expiration = claims.getExpiration();
+        return new JwtAuthentication(true, login, roles, expiration != null ? expiration.toInstant() : null);
     }
 
     /**
@@ -147,10 +191,7 @@ public class JwtService {
      */
     private Claims getClaims(String token) {
         checkToken(token, "Incorrect token");
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build().parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -162,9 +203,7 @@ public class JwtService {
      */
     private boolean validateToken(@NonNull String token) throws JwtException {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSignKey())
-                    .build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (ExpiredJwtException
                  | UnsupportedJwtException
@@ -174,16 +213,6 @@ public class JwtService {
         }
     }
 
-    /**
-     * Получает ключ подписи из строки секрета.
-     *
-     * @return {@link Key}.
-     */
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     /**
      * Проверяет валидность токена.
      *
@@ -0,0 +1,153 @@
+package ru.effectivemobile.taskmanagementsystem.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Сервис хэширования и проверки паролей на выделенном ограниченном пуле потоков.
+ * BCrypt намеренно дорог, поэтому всплеск логинов не должен занимать потоки обработки запросов:
+ * одновременно хэшируется не больше {@code auth.hashing.threads} паролей, в очереди ждут не больше
+ * {@code auth.hashing.queueCapacity}. Если очередь заполнена или ожидание превышает
+ * {@code auth.hashing.timeout}, сразу выбрасывается {@link ServiceOverloadedException}.
+ * Глубина очереди и загрузка пула публикуются в метриках {@code executor.*} с именем {@code passwordHashing},
+ * отказы — в счетчике {@code password.hashing.rejected}. Время хэширования измеряет сам энкодер
+ * ({@link MeteredPasswordEncoder}) в таймере {@code password.hashing}.
+ */
+@Component
+public class PasswordHashingService {
+
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String OVERLOADED_MESSAGE = "Authentication service is overloaded, try again later";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Counter rejectedCounter;
+
+    /**
+     * Создает пул потоков хэширования и регистрирует его метрики.
+     *
+     * @param passwordEncoder энкодер паролей.
+     * @param meterRegistry   реестр метрик.
+     * @param threads         количество потоков хэширования (0 — по числу процессоров).
+     * @param queueCapacity   максимальное количество ожидающих операций.
+     * @param timeout         максимальное время ожидания результата.
+     * @param retryAfter      задержка, рекомендуемая клиенту при перегрузке.
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queueCapacity:64}") int queueCapacity,
+                                  @Value("${auth.hashing.timeout:PT2S}") Duration timeout,
+                                  @Value("${auth.hashing.retryAfter:PT1S}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing operations rejected because the executor was saturated")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Хэширует пароль.
+     *
+     * @param rawPassword исходный пароль.
+     * @return хэш пароля.
+     * @throws ServiceOverloadedException если пул хэширования перегружен.
+     */
+    public String encode(CharSequence rawPassword) throws ServiceOverloadedException {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Проверяет соответствие пароля хэшу.
+     *
+     * @param rawPassword     исходный пароль.
+     * @param encodedPassword хэш пароля.
+     * @return true, если пароль соответствует хэшу.
+     * @throws ServiceOverloadedException если пул хэширования перегружен.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) throws ServiceOverloadedException {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Останавливает пул потоков хэширования.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Выполняет операцию в пуле хэширования и ожидает результат не дольше заданного времени.
+     *
+     * @param operation операция.
+     * @param <T>       тип результата.
+     * @return результат операции.
+     * @throws ServiceOverloadedException если очередь заполнена или время ожидания истекло.
+     */
+    private <T> T execute(Callable<T> operation) throws ServiceOverloadedException {
+        Future<T> future;
+        try {
+            future = executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Учитывает отказ в метриках и создает исключение перегрузки.
+     *
+     * @return {@link ServiceOverloadedException}.
+     */
+    private ServiceOverloadedException overloaded() {
+        rejectedCounter.increment();
+        return new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.effectivemobile.taskmanagementsystem.security;
+
+import java.time.Instant;
+
+/**
+ * Хранилище действующих refresh-токенов.
+ * Для каждого пользователя хранится один последний выданный refresh-токен, в хранилище попадает только его дайджест.
+ * Реализация выбирается свойством {@code jwt.refreshStore.type}: {@code memory} (по умолчанию) или {@code jdbc}.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Сохраняет refresh-токен пользователя, заменяя ранее выданный.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @param expiresAt    момент истечения refresh-токена.
+     */
+    void save(String username, String refreshToken, Instant expiresAt);
+
+    /**
+     * Проверяет, что refresh-токен является последним выданным пользователю и еще не истек.
+     *
+     * @param username     имя пользователя.
+     * @param refreshToken refresh-токен.
+     * @return true, если токен действителен.
+     */
+    boolean matches(String username, String refreshToken);
+}
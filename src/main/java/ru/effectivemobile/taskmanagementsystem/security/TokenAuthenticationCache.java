@@ -0,0 +1,108 @@
+package ru.effectivemobile.taskmanagementsystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.effectivemobile.taskmanagementsystem.exception.JwtException;
+import ru.effectivemobile.taskmanagementsystem.util.DigestUtil;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Кэш проверенных токенов доступа.
+ * Сопоставляет SHA-256 дайджест токена с неизменяемым {@link JwtAuthentication}, поэтому повторные запросы
+ * с тем же токеном не проверяют подпись заново. Каждая запись истекает в момент истечения своего токена,
+ * размер кэша ограничен свойством {@code jwt.cache.maxSize}, статистика публикуется в метриках
+ * {@code cache.*} с именем {@code jwtTokens}. Набор тегов совпадает с метриками кэшей Spring, иначе Prometheus
+ * отклоняет метрики с тем же именем. Сами токены в кэше не хранятся.
+ */
+@Component
+public class TokenAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwtTokens";
+    private static final String CACHE_MANAGER_NAME = "tokenAuthenticationCache";
+
+    private final JwtService jwtService;
+    private final Cache<String, JwtAuthentication> cache;
+
+    /**
+     * Создает кэш и регистрирует его метрики.
+     *
+     * @param jwtService    сервис проверки токенов.
+     * @param meterRegistry реестр метрик.
+     * @param maxSize       максимальное количество записей.
+     */
+    public TokenAuthenticationCache(JwtService jwtService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${jwt.cache.maxSize:10000}") long maxSize) {
+        this.jwtService = jwtService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME,
+                Tags.of("cache.manager", CACHE_MANAGER_NAME, "name", CACHE_NAME));
+    }
+
+    /**
+     * Возвращает аутентификацию для токена доступа из кэша или проверяет токен и кэширует результат.
+     * Запись никогда не возвращается после истечения срока действия токена.
+     *
+     * @param accessToken строка токена доступа.
+     * @return {@link JwtAuthentication}.
+     * @throws JwtException если токен пустой или недействителен.
+     */
+    public JwtAuthentication authenticate(String accessToken) throws JwtException {
+        if (accessToken == null || accessToken.isEmpty()) {
+            throw new JwtException("Incorrect token");
+        }
+        String key = DigestUtil.sha256Hex(accessToken);
+        JwtAuthentication authentication = cache.getIfPresent(key);
+        if (authentication != null && !isExpired(authentication)) {
+            return authentication;
+        }
+        authentication = jwtService.authenticate(accessToken);
+        if (authentication.getExpiresAt() != null && !isExpired(authentication)) {
+            cache.put(key, authentication);
+        }
+        return authentication;
+    }
+
+    /**
+     * Проверяет, истек ли срок действия токена, из которого получена аутентификация.
+     *
+     * @param authentication аутентификация.
+     * @return true, если срок действия истек.
+     */
+    private static boolean isExpired(JwtAuthentication authentication) {
+        return authentication.getExpiresAt() == null || !Instant.now().isBefore(authentication.getExpiresAt());
+    }
+
+    /**
+     * Политика истечения записей: запись живет до момента истечения своего токена.
+     */
+    private static class TokenExpiry implements Expiry<String, JwtAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtAuthentication value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
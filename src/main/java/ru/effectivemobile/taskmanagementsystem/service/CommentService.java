@@ -0,0 +1,51 @@
+package ru.effectivemobile.taskmanagementsystem.service;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Сервис для управления комментариями к задачам.
+ */
+public interface CommentService {
+
+    /**
+     * Добавляет комментарий к задаче, если текущий пользователь - ее автор или администратор.
+     *
+     * @param taskId идентификатор задачи.
+     * @param text   текст комментария.
+     * @return {@link TaskCommentDto}.
+     */
+    TaskCommentDto addComment(UUID taskId, String text);
+
+    /**
+     * Добавляет несколько комментариев к задаче в указанном порядке.
+     *
+     * @param task  задача.
+     * @param texts тексты комментариев (может быть {@code null}).
+     */
+    void addComments(Task task, List<String> texts);
+
+    /**
+     * Возвращает страницу комментариев задачи, используя keyset-пагинацию.
+     *
+     * @param taskId идентификатор задачи.
+     * @param after  курсор предыдущей страницы (может быть {@code null}).
+     * @param limit  размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskCommentDto>}.
+     */
+    CursorPageDto<TaskCommentDto> getComments(UUID taskId, String after, Integer limit);
+
+    /**
+     * Возвращает тексты комментариев для набора задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return {@link Map} идентификаторов задач на тексты комментариев в порядке их создания.
+     */
+    Map<UUID, List<String>> getCommentTextsByTaskIds(Collection<UUID> taskIds);
+}
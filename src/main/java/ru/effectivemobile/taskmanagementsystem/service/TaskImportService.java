@@ -0,0 +1,33 @@
+package ru.effectivemobile.taskmanagementsystem.service;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskImportResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Сервис загрузки задач из файлов.
+ */
+public interface TaskImportService {
+
+    /**
+     * Загружает задачи из файла или продолжает прерванную загрузку.
+     *
+     * @param format   формат файла.
+     * @param importId идентификатор продолжаемой загрузки или {@code null} для новой загрузки.
+     * @param in       содержимое файла.
+     * @return {@link TaskImportResultDto} с итогом загрузки.
+     * @throws IOException если возникает ошибка чтения файла.
+     */
+    TaskImportResultDto importTasks(TaskFileFormat format, UUID importId, InputStream in) throws IOException;
+
+    /**
+     * Возвращает состояние загрузки.
+     *
+     * @param importId идентификатор загрузки.
+     * @return {@link TaskImportResultDto} без ошибок строк.
+     */
+    TaskImportResultDto getImport(UUID importId);
+}
@@ -2,8 +2,16 @@ package ru.effectivemobile.taskmanagementsystem.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkTaskUpdateDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkUpdateResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskBatchResultDto;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskStatsDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskScope;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,9 +25,18 @@ public interface TaskService {
     /**
      * Создает новую задачу.
      *
-     * @param task задача для создания.
+     * @param task     задача для создания.
+     * @param comments начальные комментарии к задаче (может быть {@code null}).
      */
-    void createTask(Task task);
+    void createTask(Task task, List<String> comments);
+
+    /**
+     * Создает пакет задач в одной транзакции.
+     *
+     * @param taskDtos список DTO задач.
+     * @return {@link TaskBatchResultDto} с созданными задачами и ошибками элементов.
+     */
+    TaskBatchResultDto createTasks(List<TaskDto> taskDtos);
 
     /**
      * Возвращает задачу по идентификатору.
@@ -30,12 +47,30 @@ public interface TaskService {
     Task getTaskById(UUID id);
 
     /**
-     * Обновляет задачу по идентификатору.
+     * Возвращает DTO задачи по идентификатору.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link TaskDto}.
+     */
+    TaskDto getTaskDtoById(UUID id);
+
+    /**
+     * Обновляет задачу по идентификатору и возвращает ее новое представление.
      *
-     * @param id            идентификатор задачи.
-     * @param taskForUpdate объект с новыми данными для обновления задачи.
+     * @param id              идентификатор задачи.
+     * @param taskForUpdate   объект с новыми данными для обновления задачи.
+     * @param expectedVersion ожидаемая версия задачи (может быть {@code null}).
+     * @return {@link TaskDto} обновленной задачи.
      */
-    void updateTask(UUID id, TaskDto taskForUpdate);
+    TaskDto updateTask(UUID id, TaskDto taskForUpdate, Long expectedVersion);
+
+    /**
+     * Массово обновляет задачи, выбранные по списку идентификаторов или по фильтру.
+     *
+     * @param bulkTaskUpdateDto DTO с выбором задач и новыми значениями полей.
+     * @return {@link BulkUpdateResultDto} с количеством обновленных задач.
+     */
+    BulkUpdateResultDto updateTasks(BulkTaskUpdateDto bulkTaskUpdateDto);
 
     /**
      * Удаляет задачу по идентификатору.
@@ -68,13 +103,6 @@ public interface TaskService {
      */
     List<TaskDto> taskListToDtoList(List<Task> taskList);
 
-    /**
-     * Обновляет комментарии задачи.
-     *
-     * @param task задача с обновленными комментариями.
-     */
-    void updateTaskComments(Task task);
-
     /**
      * Возвращает список задач текущего пользователя с фильтрацией.
      *
@@ -102,4 +130,97 @@ public interface TaskService {
      */
     Page<TaskDto> getAssignedTasksWithFilters(String title, String status, String priority,
                                               String author, String executor, Pageable pageable);
+
+    /**
+     * Возвращает страницу задач текущего пользователя с фильтрацией, используя keyset-пагинацию.
+     *
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskDto>}.
+     */
+    CursorPageDto<TaskDto> getMyTasksAfterCursor(String title, String status, String priority,
+                                                 String author, String executor, String after, Integer limit);
+
+    /**
+     * Возвращает страницу задач, назначенных текущему пользователю, с фильтрацией, используя keyset-пагинацию.
+     *
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskDto>}.
+     */
+    CursorPageDto<TaskDto> getAssignedTasksAfterCursor(String title, String status, String priority,
+                                                       String author, String executor, String after, Integer limit);
+
+    /**
+     * Вычисляет ETag страницы задач текущего пользователя с фильтрацией, не загружая задачи и комментарии.
+     *
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param pageable параметры пагинации.
+     * @return строгий ETag страницы задач.
+     */
+    String getTasksETag(TaskScope scope, String title, String status, String priority,
+                        String author, String executor, Pageable pageable);
+
+    /**
+     * Вычисляет ETag keyset-страницы задач текущего пользователя с фильтрацией, не загружая задачи и комментарии.
+     *
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return строгий ETag keyset-страницы задач.
+     */
+    String getTasksAfterCursorETag(TaskScope scope, String title, String status, String priority,
+                                   String author, String executor, String after, Integer limit);
+
+    /**
+     * Выполняет поиск задач текущего пользователя по тексту заголовка и описания.
+     *
+     * @param query    поисковый запрос.
+     * @param scope    область видимости задач.
+     * @param pageable параметры пагинации.
+     * @return {@link List<TaskDto>}, упорядоченный по релевантности.
+     */
+    List<TaskDto> searchTasks(String query, TaskScope scope, Pageable pageable);
+
+    /**
+     * Выгружает задачи текущего пользователя с фильтрацией в потоковом режиме.
+     *
+     * @param format   формат выгрузки.
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @return {@link StreamingResponseBody}, записывающий задачи в ответ.
+     */
+    StreamingResponseBody exportTasks(TaskFileFormat format, TaskScope scope, String title, String status,
+                                      String priority, String author, String executor);
+
+    /**
+     * Возвращает статистику задач текущего пользователя по статусу и приоритету.
+     *
+     * @return {@link TaskStatsDto}.
+     */
+    TaskStatsDto getTaskStats();
 }
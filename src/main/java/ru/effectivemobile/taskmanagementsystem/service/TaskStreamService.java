@@ -0,0 +1,24 @@
+package ru.effectivemobile.taskmanagementsystem.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+
+/**
+ * Сервис ленты изменений задач в формате Server-Sent Events.
+ */
+public interface TaskStreamService {
+
+    /**
+     * Подписывает текущего пользователя на изменения его задач.
+     *
+     * @return {@link SseEmitter} подписки.
+     */
+    SseEmitter subscribe();
+
+    /**
+     * Доставляет событие подписчикам-получателям.
+     *
+     * @param event событие изменения задачи.
+     */
+    void publish(TaskChangeEvent event);
+}
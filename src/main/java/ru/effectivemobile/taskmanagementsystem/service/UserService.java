@@ -3,6 +3,10 @@ package ru.effectivemobile.taskmanagementsystem.service;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.RegistrationUserDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Сервис для управления пользователями.
  * Предоставляет методы для создания новых пользователей и получения информации о текущем пользователе.
@@ -38,4 +42,35 @@ public interface UserService {
      * @return {@link User}.
      */
     User getCurrentUser();
+
+    /**
+     * Возвращает ссылку на текущего пользователя для установки в связи сущностей.
+     *
+     * @return {@link User}.
+     */
+    User getCurrentUserReference();
+
+    /**
+     * Сбрасывает кэшированный снимок пользователя.
+     * Вызывается при изменении пользователя или его ролей.
+     *
+     * @param username имя пользователя.
+     */
+    void evictUser(String username);
+
+    /**
+     * Возвращает ссылки на пользователей по их именам.
+     *
+     * @param usernames имена пользователей.
+     * @return {@link Map} имени пользователя на ссылку {@link User}; отсутствующие имена не попадают в результат.
+     */
+    Map<String, User> getUserReferencesByUsernames(Collection<String> usernames);
+
+    /**
+     * Возвращает идентификаторы пользователей по их именам.
+     *
+     * @param usernames имена пользователей.
+     * @return {@link Map} имени пользователя на идентификатор; отсутствующие имена не попадают в результат.
+     */
+    Map<String, UUID> getUserIdsByUsernames(Collection<String> usernames);
 }
@@ -7,9 +7,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.RegistrationUserDto;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.UserDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
@@ -17,25 +15,26 @@ import ru.effectivemobile.taskmanagementsystem.domain.request.AuthRequest;
 import ru.effectivemobile.taskmanagementsystem.domain.response.JwtResponse;
 import ru.effectivemobile.taskmanagementsystem.exception.AuthException;
 import ru.effectivemobile.taskmanagementsystem.exception.ErrorMessage;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
 import ru.effectivemobile.taskmanagementsystem.security.JwtService;
+import ru.effectivemobile.taskmanagementsystem.security.PasswordHashingService;
+import ru.effectivemobile.taskmanagementsystem.security.RefreshTokenStore;
 import ru.effectivemobile.taskmanagementsystem.service.AuthService;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Instant;
 
 /**
  * Реализация сервиса аутентификации и регистрации пользователей.
+ * Методы не открывают общую транзакцию, чтобы проверка пароля не удерживала соединение с базой данных.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthServiceImpl implements AuthService {
 
     private final UserServiceImpl userService;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
-
-    private final Map<String, String> refreshStorage = new ConcurrentHashMap<>();
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${jwt.lifetime}")
     private Long accessTokenLife;
@@ -64,17 +63,18 @@ public class AuthServiceImpl implements AuthService {
      *
      * @param authRequest объект с данными для аутентификации (логин и пароль).
      * @return {@link ResponseEntity}, содержащий {@link JwtResponse} с токенами.
-     * @throws AuthException если пароль некорректен.
+     * @throws AuthException                если пароль некорректен.
+     * @throws ServiceOverloadedException если пул проверки паролей перегружен.
      */
     @Override
     public ResponseEntity<?> authAndGetToken(AuthRequest authRequest) {
         User user = userService.getUserByUsername(authRequest.username());
-        if (!passwordEncoder.matches(authRequest.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(authRequest.password(), user.getPassword())) {
             throw new AuthException("Incorrect password");
         }
         String token = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
-        refreshStorage.put(user.getUsername(), refreshToken);
+        refreshTokenStore.save(user.getUsername(), refreshToken, Instant.now().plusSeconds(refreshTokenLifetime));
         ResponseCookie jwtCookie = ResponseCookie.from("JWT", token)
                 .httpOnly(false)
                 .secure(false)
@@ -101,6 +101,7 @@ public class AuthServiceImpl implements AuthService {
 
     /**
      * Обновляет и возвращает JWT-токен на основе refresh-токена.
+     * Новый refresh-токен сохраняется вместо использованного.
      *
      * @param refreshToken refresh-токен.
      * @return {@link JwtResponse} или null, если refresh-токен недействителен.
@@ -110,11 +111,12 @@ public class AuthServiceImpl implements AuthService {
         if (jwtService.validateRefreshToken(refreshToken)) {
             Claims claims = jwtService.getRefreshClaims(refreshToken);
             String username = claims.getSubject();
-            String saveRefreshToken = refreshStorage.get(username);
-            if (saveRefreshToken != null && saveRefreshToken.equals(refreshToken)) {
+            if (refreshTokenStore.matches(username, refreshToken)) {
                 User user = userService.getUserByUsername(username);
                 String accessToken = jwtService.generateToken(user);
-                return new JwtResponse(accessToken, jwtService.generateRefreshToken(user));
+                String newRefreshToken = jwtService.generateRefreshToken(user);
+                refreshTokenStore.save(username, newRefreshToken, Instant.now().plusSeconds(refreshTokenLifetime));
+                return new JwtResponse(accessToken, newRefreshToken);
             }
         }
         return new JwtResponse(null, null);
@@ -0,0 +1,185 @@
+package ru.effectivemobile.taskmanagementsystem.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CommentCursor;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCommentDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Comment;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeType;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCommentRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionParticipantsRow;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskAccessDeniedException;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskNotFoundException;
+import ru.effectivemobile.taskmanagementsystem.repository.CommentRepository;
+import ru.effectivemobile.taskmanagementsystem.repository.TaskRepository;
+import ru.effectivemobile.taskmanagementsystem.service.CommentService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static ru.effectivemobile.taskmanagementsystem.config.CacheConfig.TASKS_CACHE;
+import static ru.effectivemobile.taskmanagementsystem.util.UserUtil.isCurrentUserAdmin;
+
+/**
+ * Реализация сервиса для работы с комментариями к задачам.
+ * Комментарии только добавляются: добавление выполняется одним INSERT без загрузки существующих комментариев.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentServiceImpl implements CommentService {
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserServiceImpl userService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:2000}")
+    private int maxPageSize;
+
+    /**
+     * Добавляет комментарий к задаче, если текущий пользователь - ее автор или администратор.
+     * Задача не загружается: версия задачи увеличивается одним запросом, который возвращает актуальных автора
+     * и исполнителя, поэтому права проверяются по данным базы, а не по кэшу, и ETag задачи и ее комментариев
+     * изменяется. Комментарий добавляется одним INSERT со ссылкой на задачу по идентификатору.
+     * При отказе в доступе транзакция откатывается вместе с увеличением версии.
+     *
+     * @param taskId идентификатор задачи.
+     * @param text   текст комментария.
+     * @return {@link TaskCommentDto}.
+     * @throws TaskNotFoundException     если задача не найдена.
+     * @throws TaskAccessDeniedException если текущий пользователь не автор задачи и не администратор.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    public TaskCommentDto addComment(UUID taskId, String text) {
+        TaskVersionParticipantsRow task = taskRepository.incrementVersion(taskId)
+                .orElseThrow(() -> new TaskNotFoundException(String.format("Task with id %s not found", taskId)));
+        User currentUser = userService.getCurrentUser();
+        if (!currentUser.getUsername().equals(task.author()) && !isCurrentUserAdmin(currentUser)) {
+            throw new TaskAccessDeniedException("You do not have permission to access this resource");
+        }
+        Comment comment = commentRepository.save(Comment.builder()
+                .task(taskRepository.getReferenceById(taskId))
+                .text(text)
+                .createdAt(now())
+                .build());
+        eventPublisher.publishEvent(new TaskChangeEvent(TaskChangeType.COMMENT_ADDED, taskId, task.version(),
+                Set.copyOf(List.of(task.author(), task.executor()))));
+        return new TaskCommentDto(comment.getId(), comment.getText(), comment.getCreatedAt());
+    }
+
+    /**
+     * Добавляет несколько комментариев к задаче в указанном порядке.
+     * Даты создания различаются на микросекунду, чтобы порядок (created_at, id) совпадал с порядком в списке.
+     *
+     * @param task  задача.
+     * @param texts тексты комментариев (может быть {@code null}).
+     */
+    @Override
+    @Transactional
+    public void addComments(Task task, List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return;
+        }
+        LocalDateTime createdAt = now();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            comments.add(Comment.builder()
+                    .task(task)
+                    .text(texts.get(i))
+                    .createdAt(createdAt.plus(i, ChronoUnit.MICROS))
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+    }
+
+    /**
+     * Возвращает страницу комментариев задачи, используя keyset-пагинацию.
+     * Запрашивается на один комментарий больше размера страницы, чтобы определить наличие следующей страницы.
+     *
+     * @param taskId идентификатор задачи.
+     * @param after  курсор предыдущей страницы (может быть {@code null}).
+     * @param limit  размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskCommentDto>}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskCommentDto> getComments(UUID taskId, String after, Integer limit) {
+        CommentCursor cursor = (after != null && !after.isEmpty()) ? CommentCursor.decode(after) : null;
+        int pageSize = checkAndGetLimit(limit);
+        List<TaskCommentDto> comments = (cursor == null)
+                ? commentRepository.findPageByTaskId(taskId, Limit.of(pageSize + 1))
+                : commentRepository.findPageByTaskIdAfter(taskId, cursor.createdAt(), cursor.id(), Limit.of(pageSize + 1));
+        if (comments.size() <= pageSize) {
+            return new CursorPageDto<>(comments, null);
+        }
+        List<TaskCommentDto> page = comments.subList(0, pageSize);
+        TaskCommentDto last = page.get(pageSize - 1);
+        return new CursorPageDto<>(page, new CommentCursor(last.createdAt(), last.id()).encode());
+    }
+
+    /**
+     * Возвращает тексты комментариев для набора задач одним запросом.
+     *
+     * @param taskIds идентификаторы задач.
+     * @return {@link Map} идентификаторов задач на тексты комментариев в порядке их создания.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<String>> getCommentTextsByTaskIds(Collection<UUID> taskIds) {
+        Map<UUID, List<String>> comments = new HashMap<>();
+        if (taskIds.isEmpty()) {
+            return comments;
+        }
+        for (TaskCommentRow comment : commentRepository.findCommentsByTaskIds(taskIds)) {
+            comments.computeIfAbsent(comment.taskId(), id -> new ArrayList<>()).add(comment.comment());
+        }
+        return comments;
+    }
+
+    /**
+     * Возвращает текущие дату и время с точностью до микросекунд, с которой их хранит база данных.
+     *
+     * @return {@link LocalDateTime}.
+     */
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Проверяет размер страницы и ограничивает его максимально допустимым значением.
+     *
+     * @param limit запрошенный размер страницы.
+     * @return размер страницы.
+     * @throws IllegalArgumentException если размер страницы меньше 1.
+     */
+    private int checkAndGetLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+}
@@ -0,0 +1,279 @@
+package ru.effectivemobile.taskmanagementsystem.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BatchItemErrorDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskImportResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.ImportStatus;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskCopyRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskImportState;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskImportNotFoundException;
+import ru.effectivemobile.taskmanagementsystem.repository.TaskImportRepository;
+import ru.effectivemobile.taskmanagementsystem.service.TaskImportService;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.CsvTaskImportReader;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.NdjsonTaskImportReader;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.TaskImportReader;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.TaskImportRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса загрузки задач из файлов.
+ * Файл читается потоково и обрабатывается порциями по {@code tasks.import.chunkSize} строк. Строки проверяются
+ * по ограничениям {@link TaskDto}, имена пользователей разрешаются через словарь, который дополняется одним
+ * запросом на порцию только для новых имен. Задачи порции записываются через {@code COPY} и фиксируются
+ * в отдельной транзакции вместе со счетчиками загрузки, поэтому прерванную загрузку можно продолжить
+ * с первой незафиксированной строки.
+ * <p>
+ * Загрузка минует {@link TaskServiceImpl}: задачи получают новые идентификаторы, а кэш задач не затрагивается,
+ * так как загруженные задачи в нем еще не могут находиться.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private final TaskImportRepository taskImportRepository;
+    private final UserServiceImpl userService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${tasks.import.chunkSize:1000}")
+    private int chunkSize;
+
+    @Value("${tasks.import.maxErrors:100}")
+    private int maxErrors;
+
+    /**
+     * Загружает задачи из файла или продолжает прерванную загрузку.
+     * При продолжении строки, уже зафиксированные в базе данных, пропускаются без проверки.
+     * Если порция не может быть записана, загрузка помечается как {@link ImportStatus#FAILED},
+     * а ранее зафиксированные порции сохраняются.
+     *
+     * @param format   формат файла.
+     * @param importId идентификатор продолжаемой загрузки или {@code null} для новой загрузки.
+     * @param in       содержимое файла.
+     * @return {@link TaskImportResultDto} с итогом загрузки.
+     * @throws IOException                        если возникает ошибка чтения файла.
+     * @throws IllegalArgumentException           если заголовок CSV некорректен или формат не совпадает с форматом загрузки.
+     * @throws TaskImportNotFoundException        если продолжаемая загрузка не найдена.
+     * @throws OptimisticLockingFailureException если загрузка одновременно продолжается другим запросом.
+     */
+    @Override
+    public TaskImportResultDto importTasks(TaskFileFormat format, UUID importId, InputStream in) throws IOException {
+        TaskImportState state;
+        if (importId == null) {
+            state = new TaskImportState(UUID.randomUUID(), userService.getUsernameOfCurrentUser(), format,
+                    ImportStatus.IN_PROGRESS, 0, 0, 0);
+        } else {
+            state = findImport(importId);
+            if (state.format() != format) {
+                throw new IllegalArgumentException(String.format("Import with id %s expects format %s",
+                        importId, state.format().name().toLowerCase()));
+            }
+            if (state.status() == ImportStatus.COMPLETED) {
+                return toResult(state, new ArrayList<>());
+            }
+        }
+        TaskImportReader reader = switch (format) {
+            case NDJSON -> new NdjsonTaskImportReader(objectMapper, in);
+            case CSV -> new CsvTaskImportReader(in);
+        };
+        if (importId == null) {
+            taskImportRepository.create(state);
+        }
+        for (long skipped = 0; skipped < state.processedRows(); skipped++) {
+            if (reader.next() == null) {
+                break;
+            }
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Map<String, UUID> userIds = new HashMap<>();
+        List<BatchItemErrorDto> errors = new ArrayList<>();
+        List<TaskImportRow> chunk = new ArrayList<>(chunkSize);
+        try {
+            TaskImportRow row = reader.next();
+            while (row != null) {
+                chunk.add(row);
+                row = reader.next();
+                if (chunk.size() == chunkSize || row == null) {
+                    state = importChunk(state, chunk, userIds, errors, transactionTemplate);
+                    chunk.clear();
+                }
+            }
+            state = saveProgress(state, ImportStatus.COMPLETED, 0, 0, 0);
+        } catch (IOException | RuntimeException e) {
+            taskImportRepository.updateProgress(state.id(), state.processedRows(), ImportStatus.FAILED,
+                    state.processedRows(), state.importedRows(), state.rejectedRows());
+            throw e;
+        }
+        return toResult(state, errors);
+    }
+
+    /**
+     * Возвращает состояние загрузки.
+     *
+     * @param importId идентификатор загрузки.
+     * @return {@link TaskImportResultDto} без ошибок строк.
+     * @throws TaskImportNotFoundException если загрузка не найдена.
+     */
+    @Override
+    public TaskImportResultDto getImport(UUID importId) {
+        return toResult(findImport(importId), new ArrayList<>());
+    }
+
+    /**
+     * Проверяет порцию строк, записывает корректные строки и фиксирует счетчики загрузки в одной транзакции.
+     *
+     * @param state               текущее состояние загрузки.
+     * @param chunk               строки порции.
+     * @param userIds             словарь идентификаторов пользователей по именам; отсутствующие имена хранятся как {@code null}.
+     * @param errors              ошибки строк текущего запроса.
+     * @param transactionTemplate шаблон транзакции порции.
+     * @return новое состояние загрузки.
+     */
+    private TaskImportState importChunk(TaskImportState state, List<TaskImportRow> chunk, Map<String, UUID> userIds,
+                                        List<BatchItemErrorDto> errors, TransactionTemplate transactionTemplate) {
+        Set<String> unknownUsernames = new HashSet<>();
+        for (TaskImportRow row : chunk) {
+            if (row.task() != null) {
+                for (String username : new String[]{row.task().getAuthor(), row.task().getExecutor()}) {
+                    if (username != null && !userIds.containsKey(username)) {
+                        unknownUsernames.add(username);
+                    }
+                }
+            }
+        }
+        if (!unknownUsernames.isEmpty()) {
+            Map<String, UUID> found = userService.getUserIdsByUsernames(unknownUsernames);
+            unknownUsernames.forEach(username -> userIds.put(username, found.get(username)));
+        }
+        List<TaskCopyRow> rows = new ArrayList<>(chunk.size());
+        for (TaskImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : checkRow(row.task(), userIds);
+            if (error != null) {
+                if (errors.size() < maxErrors) {
+                    errors.add(new BatchItemErrorDto(Math.toIntExact(row.index()), error));
+                }
+                continue;
+            }
+            TaskDto taskDto = row.task();
+            rows.add(new TaskCopyRow(
+                    UUID.randomUUID(),
+                    taskDto.getTitle(),
+                    taskDto.getDescription(),
+                    Status.valueOf(taskDto.getStatus()),
+                    Priority.valueOf(taskDto.getPriority()),
+                    userIds.get(taskDto.getAuthor()),
+                    userIds.get(taskDto.getExecutor()),
+                    taskDto.getComments() != null ? taskDto.getComments() : new ArrayList<>()));
+        }
+        int processed = chunk.size();
+        int imported = rows.size();
+        return transactionTemplate.execute(transactionStatus -> {
+            taskImportRepository.copyTasks(rows);
+            return saveProgress(state, ImportStatus.IN_PROGRESS, processed, imported, processed - imported);
+        });
+    }
+
+    /**
+     * Увеличивает счетчики загрузки и устанавливает ее статус.
+     *
+     * @param state     текущее состояние загрузки.
+     * @param status    новый статус.
+     * @param processed количество обработанных строк.
+     * @param imported  количество загруженных задач.
+     * @param rejected  количество отклоненных строк.
+     * @return новое состояние загрузки.
+     * @throws OptimisticLockingFailureException если загрузка одновременно продолжается другим запросом.
+     */
+    private TaskImportState saveProgress(TaskImportState state, ImportStatus status,
+                                         long processed, long imported, long rejected) {
+        TaskImportState next = new TaskImportState(state.id(), state.createdBy(), state.format(), status,
+                state.processedRows() + processed, state.importedRows() + imported, state.rejectedRows() + rejected);
+        if (!taskImportRepository.updateProgress(state.id(), state.processedRows(), next.status(),
+                next.processedRows(), next.importedRows(), next.rejectedRows())) {
+            throw new OptimisticLockingFailureException(
+                    String.format("Import with id %s is being processed by another request", state.id()));
+        }
+        return next;
+    }
+
+    /**
+     * Проверяет строку на соответствие ограничениям {@link TaskDto} и комментариев,
+     * а также существование автора и исполнителя.
+     *
+     * @param taskDto DTO задачи.
+     * @param userIds словарь идентификаторов пользователей по именам.
+     * @return сообщение об ошибке или {@code null}, если строка корректна.
+     */
+    private String checkRow(TaskDto taskDto, Map<String, UUID> userIds) {
+        Set<ConstraintViolation<TaskDto>> violations = validator.validate(taskDto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (taskDto.getComments() != null) {
+            for (String comment : taskDto.getComments()) {
+                if (comment == null || comment.isBlank()) {
+                    return "Comment cannot be blank";
+                }
+                if (comment.length() > 255) {
+                    return "Comment length must be from 1 to 255 chars";
+                }
+            }
+        }
+        for (String username : List.of(taskDto.getAuthor(), taskDto.getExecutor())) {
+            if (userIds.get(username) == null) {
+                return String.format("User with username '%s' not found", username);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Возвращает состояние загрузки по идентификатору.
+     *
+     * @param importId идентификатор загрузки.
+     * @return {@link TaskImportState}.
+     * @throws TaskImportNotFoundException если загрузка не найдена.
+     */
+    private TaskImportState findImport(UUID importId) {
+        return taskImportRepository.findById(importId)
+                .orElseThrow(() -> new TaskImportNotFoundException(String.format("Import with id %s not found", importId)));
+    }
+
+    /**
+     * Преобразует состояние загрузки в DTO отчета.
+     *
+     * @param state  состояние загрузки.
+     * @param errors ошибки строк.
+     * @return {@link TaskImportResultDto}.
+     */
+    private TaskImportResultDto toResult(TaskImportState state, List<BatchItemErrorDto> errors) {
+        return new TaskImportResultDto(state.id(), state.status(), state.processedRows(), state.importedRows(),
+                state.rejectedRows(), errors);
+    }
+}
@@ -1,49 +1,197 @@
 package ru.effectivemobile.taskmanagementsystem.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BatchItemErrorDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkTaskUpdateDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.BulkUpdateResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskBatchResultDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskCursor;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskFilterDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskStatsDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeType;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskParticipantsRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskStatsRow;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionRow;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskFileFormat;
+import ru.effectivemobile.taskmanagementsystem.domain.request.TaskScope;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskAccessDeniedException;
 import ru.effectivemobile.taskmanagementsystem.exception.TaskNotFoundException;
+import ru.effectivemobile.taskmanagementsystem.exception.TaskVersionMismatchException;
 import ru.effectivemobile.taskmanagementsystem.repository.TaskRepository;
+import ru.effectivemobile.taskmanagementsystem.repository.TaskStatsRepository;
 import ru.effectivemobile.taskmanagementsystem.security.Role;
 import ru.effectivemobile.taskmanagementsystem.service.TaskService;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTiming;
+import ru.effectivemobile.taskmanagementsystem.util.ETagUtil;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.CsvTaskExportWriter;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.NdjsonTaskExportWriter;
+import ru.effectivemobile.taskmanagementsystem.util.taskfile.TaskExportWriter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static ru.effectivemobile.taskmanagementsystem.config.CacheConfig.TASKS_CACHE;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.after;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.hasAuthor;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.hasExecutor;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.hasIdIn;
+import static ru.effectivemobile.taskmanagementsystem.repository.specification.TaskSpecifications.withFilters;
 import static ru.effectivemobile.taskmanagementsystem.util.UserUtil.isCurrentUserAdmin;
 import static ru.effectivemobile.taskmanagementsystem.util.UserUtil.isCurrentUserOwner;
 
 /**
  * Реализация сервиса для работы с задачами.
  * Предоставляет методы для управления задачами, их преобразования и получения списка задач с фильтрацией.
+ * Время выполнения публичных методов публикуется в таймере {@code task.service} с тегом {@code method}.
  */
+@Timed(value = "task.service", description = "Time spent in task service methods")
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final Sort KEYSET_SORT = Sort.by("priorityRank", "id");
+
     private final TaskRepository taskRepository;
+    private final TaskStatsRepository taskStatsRepository;
     private final UserServiceImpl userService;
+    private final CommentServiceImpl commentService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.data.web.pageable.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${spring.data.web.pageable.max-page-size:2000}")
+    private int maxPageSize;
+
+    @Value("${tasks.batchMaxSize:1000}")
+    private int batchMaxSize;
+
+    @Value("${tasks.export.fetchSize:1000}")
+    private int exportFetchSize;
 
     /**
      * Создает новую задачу, устанавливая текущего пользователя как автора.
      *
-     * @param task задача для создания.
+     * @param task     задача для создания.
+     * @param comments начальные комментарии к задаче (может быть {@code null}).
      */
     @Override
     @Transactional
-    public void createTask(Task task) {
-        task.setAuthor(userService.getCurrentUser());
+    public void createTask(Task task, List<String> comments) {
+        task.setAuthor(userService.getCurrentUserReference());
         taskRepository.save(task);
+        commentService.addComments(task, comments);
+        publishChange(TaskChangeType.CREATED, task.getId(), task.getVersion(),
+                userService.getUsernameOfCurrentUser(), task.getExecutor().getUsername());
+    }
+
+    /**
+     * Создает пакет задач в одной транзакции, устанавливая текущего пользователя как автора.
+     * Исполнители разрешаются одним запросом, идентификаторы назначаются на стороне приложения,
+     * а вставки в tasks и task_comments отправляются JDBC-пакетами.
+     * Элементы, не прошедшие проверку, пропускаются и попадают в список ошибок.
+     *
+     * @param taskDtos список DTO задач.
+     * @return {@link TaskBatchResultDto} с созданными задачами и ошибками элементов.
+     * @throws IllegalArgumentException если пакет пустой или превышает допустимый размер.
+     */
+    @Override
+    @Transactional
+    public TaskBatchResultDto createTasks(List<TaskDto> taskDtos) {
+        if (taskDtos == null || taskDtos.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (taskDtos.size() > batchMaxSize) {
+            throw new IllegalArgumentException(String.format("Batch size must not exceed %d tasks", batchMaxSize));
+        }
+        User author = userService.getCurrentUserReference();
+        String authorName = userService.getUsernameOfCurrentUser();
+        Map<String, User> executors = userService.getUserReferencesByUsernames(taskDtos.stream()
+                .filter(taskDto -> taskDto != null && taskDto.getExecutor() != null)
+                .map(TaskDto::getExecutor)
+                .collect(Collectors.toSet()));
+        List<Task> tasks = new ArrayList<>();
+        List<String> executorNames = new ArrayList<>();
+        List<List<String>> comments = new ArrayList<>();
+        List<BatchItemErrorDto> errors = new ArrayList<>();
+        for (int i = 0; i < taskDtos.size(); i++) {
+            TaskDto taskDto = taskDtos.get(i);
+            String error = checkBatchItem(taskDto, executors);
+            if (error != null) {
+                errors.add(new BatchItemErrorDto(i, error));
+                continue;
+            }
+            tasks.add(Task.builder()
+                    .title(taskDto.getTitle())
+                    .description(taskDto.getDescription())
+                    .status(Status.valueOf(taskDto.getStatus()))
+                    .priority(Priority.valueOf(taskDto.getPriority()))
+                    .author(author)
+                    .executor(executors.get(taskDto.getExecutor()))
+                    .build());
+            executorNames.add(taskDto.getExecutor());
+            comments.add(taskDto.getComments() != null ? new ArrayList<>(taskDto.getComments()) : new ArrayList<>());
+        }
+        taskRepository.saveAll(tasks);
+        List<TaskDto> created = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            commentService.addComments(task, comments.get(i));
+            created.add(new TaskDto(
+                    task.getId(),
+                    task.getTitle(),
+                    task.getDescription(),
+                    task.getStatus().name(),
+                    task.getPriority().name(),
+                    comments.get(i),
+                    authorName,
+                    executorNames.get(i),
+                    task.getVersion()));
+            publishChange(TaskChangeType.CREATED, task.getId(), task.getVersion(), authorName, executorNames.get(i));
+        }
+        return new TaskBatchResultDto(created, errors);
     }
 
     /**
@@ -60,29 +208,166 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Обновляет задачу по идентификатору.
-     * Обновление полей зависит от роли {@link Role} или авторства
+     * Возвращает DTO задачи по идентификатору.
+     * Задача читается проекцией вместе с именами автора и исполнителя, без загрузки сущностей.
+     * Результат кэшируется и обновляется при изменении задачи или ее комментариев. Запись кэша возвращается
+     * только если ее версия совпадает с текущей версией задачи, прочитанной по первичному ключу: запись,
+     * положенная в кэш запоздавшим читателем после изменения задачи, перечитывается, поэтому права доступа
+     * и ETag всегда проверяются по актуальным автору, исполнителю и версии.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link TaskDto}.
+     * @throws TaskNotFoundException если задача не найдена.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskDto getTaskDtoById(UUID id) {
+        Cache cache = cacheManager.getCache(TASKS_CACHE);
+        TaskDto cached = cache != null ? cache.get(id, TaskDto.class) : null;
+        if (cached != null) {
+            Long version = taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(String.format("Task with id %s not found", id)));
+            if (version.equals(cached.getVersion())) {
+                return cached;
+            }
+        }
+        List<TaskRow> rows = taskRepository.findRows(hasIdIn(List.of(id)), Sort.unsorted(), 1);
+        if (rows.isEmpty()) {
+            throw new TaskNotFoundException(String.format("Task with id %s not found", id));
+        }
+        TaskDto task = taskRowListToDtoList(rows).get(0);
+        if (cache != null) {
+            cache.put(id, task);
+        }
+        return task;
+    }
+
+    /**
+     * Обновляет задачу по идентификатору и возвращает ее новое представление.
+     * Обновление полей зависит от роли {@link Role} или авторства, пользователю без прав на задачу отказывается
+     * до ее изменения. Если задана ожидаемая версия, она сравнивается с текущей до изменения задачи.
+     * Конкурентное изменение, произошедшее после чтения, обнаруживается по версии в UPDATE при сбросе изменений.
+     * Событие об изменении публикуется, только если версия задачи увеличилась.
+     * Задача читается вместе с автором и исполнителем одним запросом, а DTO строится из управляемой сущности
+     * после сброса, поэтому задача повторно не читается.
      *
-     * @param id            идентификатор задачи.
-     * @param taskForUpdate объект с новыми данными для обновления задачи.
+     * @param id              идентификатор задачи.
+     * @param taskForUpdate   объект с новыми данными для обновления задачи.
+     * @param expectedVersion ожидаемая версия задачи (может быть {@code null}).
+     * @return {@link TaskDto} обновленной задачи.
+     * @throws TaskNotFoundException        если задача не найдена.
+     * @throws TaskAccessDeniedException    если текущий пользователь не автор задачи и не администратор.
+     * @throws TaskVersionMismatchException если версия задачи не совпадает с ожидаемой.
      */
     @Override
     @Transactional
-    public void updateTask(UUID id, TaskDto taskForUpdate) {
+    @CachePut(cacheNames = TASKS_CACHE, key = "#id")
+    public TaskDto updateTask(UUID id, TaskDto taskForUpdate, Long expectedVersion) {
         User currentUser = userService.getCurrentUser();
-        Task task = getTaskById(id);
-        if (isCurrentUserAdmin(currentUser)) {
+        Task task = taskRepository.findWithUsersById(id)
+                .orElseThrow(() -> new TaskNotFoundException(String.format("Task with id %s not found", id)));
+        boolean admin = isCurrentUserAdmin(currentUser);
+        boolean owner = isCurrentUserOwner(currentUser, task);
+        if (!admin && !owner) {
+            throw new TaskAccessDeniedException("You do not have permission to access this resource");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw versionMismatch(id);
+        }
+        Long previousVersion = task.getVersion();
+        String previousExecutor = task.getExecutor().getUsername();
+        if (admin) {
             task.setStatus(Status.valueOf(taskForUpdate.getStatus()));
             task.setPriority(Priority.valueOf(taskForUpdate.getPriority()));
-            task.setExecutor(userService.getUserByUsername(taskForUpdate.getExecutor()));
-            task.setComments(taskForUpdate.getComments());
-            taskRepository.save(task);
+            if (!task.getExecutor().getUsername().equals(taskForUpdate.getExecutor())) {
+                task.setExecutor(userService.getUserByUsername(taskForUpdate.getExecutor()));
+            }
         }
-        if (isCurrentUserOwner(currentUser, task)) {
+        if (owner) {
             task.setStatus(Status.valueOf(taskForUpdate.getStatus()));
-            task.setComments(taskForUpdate.getComments());
-            taskRepository.save(task);
         }
+        try {
+            taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw versionMismatch(id);
+            }
+            throw e;
+        }
+        if (!previousVersion.equals(task.getVersion())) {
+            publishChange(TaskChangeType.UPDATED, id, task.getVersion(),
+                    task.getAuthor().getUsername(), task.getExecutor().getUsername(), previousExecutor);
+        }
+        return taskToTaskDto(task);
+    }
+
+    /**
+     * Массово обновляет задачи, выбранные по списку идентификаторов или по фильтру.
+     * Администратор может изменить статус, приоритет и исполнителя любых задач,
+     * остальные пользователи - только статус задач, автором которых они являются.
+     * Сначала выбранные задачи блокируются и читаются их участники (без загрузки сущностей), затем обновляются
+     * ровно эти задачи запросами по {@code tasks.batchMaxSize} идентификаторов. В ленту изменений публикуется
+     * одно событие {@link TaskChangeType#BULK_UPDATED} для текущего пользователя, авторов, прежних исполнителей
+     * и нового исполнителя затронутых задач.
+     *
+     * @param bulkTaskUpdateDto DTO с выбором задач и новыми значениями полей.
+     * @return {@link BulkUpdateResultDto} с количеством обновленных задач.
+     * @throws IllegalArgumentException если не задан ровно один способ выбора задач или не задано ни одно изменение.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = TASKS_CACHE, allEntries = true)
+    public BulkUpdateResultDto updateTasks(BulkTaskUpdateDto bulkTaskUpdateDto) {
+        boolean byIds = bulkTaskUpdateDto.getIds() != null && !bulkTaskUpdateDto.getIds().isEmpty();
+        TaskFilterDto filter = bulkTaskUpdateDto.getFilter();
+        boolean byFilter = filter != null && filter.hasAnyCriteria();
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Either ids or a non-empty filter must be specified");
+        }
+        if (bulkTaskUpdateDto.getStatus() == null && bulkTaskUpdateDto.getPriority() == null
+                && bulkTaskUpdateDto.getExecutor() == null) {
+            throw new IllegalArgumentException("At least one of status, priority or executor must be specified");
+        }
+        Specification<Task> specification = byIds
+                ? hasIdIn(bulkTaskUpdateDto.getIds())
+                : withFilters(filter.getTitle(), checkAndGetStatus(filter.getStatus()),
+                checkAndGetPriority(filter.getPriority()), filter.getAuthor(), filter.getExecutor());
+        User currentUser = userService.getCurrentUser();
+        Status status = checkAndGetStatus(bulkTaskUpdateDto.getStatus());
+        Priority priority = null;
+        User executor = null;
+        if (isCurrentUserAdmin(currentUser)) {
+            priority = checkAndGetPriority(bulkTaskUpdateDto.getPriority());
+            executor = (bulkTaskUpdateDto.getExecutor() != null)
+                    ? userService.getUserByUsername(bulkTaskUpdateDto.getExecutor())
+                    : null;
+        } else {
+            specification = hasAuthor(currentUser.getUsername()).and(specification);
+            if (status == null) {
+                return new BulkUpdateResultDto(0);
+            }
+        }
+        List<TaskParticipantsRow> affected = taskRepository.lockParticipants(specification);
+        int updated = 0;
+        for (int from = 0; from < affected.size(); from += batchMaxSize) {
+            List<UUID> ids = affected.subList(from, Math.min(from + batchMaxSize, affected.size())).stream()
+                    .map(TaskParticipantsRow::id)
+                    .toList();
+            updated += taskRepository.updateTasks(hasIdIn(ids), status, priority, executor);
+        }
+        if (updated > 0) {
+            Set<String> recipients = new HashSet<>();
+            recipients.add(currentUser.getUsername());
+            if (executor != null) {
+                recipients.add(executor.getUsername());
+            }
+            affected.forEach(row -> {
+                recipients.add(row.author());
+                recipients.add(row.executor());
+            });
+            eventPublisher.publishEvent(new TaskChangeEvent(TaskChangeType.BULK_UPDATED, null, null, recipients));
+        }
+        return new BulkUpdateResultDto(updated);
     }
 
     /**
@@ -92,9 +377,13 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#id")
     public void deleteTask(UUID id) {
-        Task task = getTaskById(id);
+        Task task = taskRepository.findWithUsersById(id)
+                .orElseThrow(() -> new TaskNotFoundException(String.format("Task with id %s not found", id)));
         taskRepository.delete(task);
+        publishChange(TaskChangeType.DELETED, id, task.getVersion(),
+                task.getAuthor().getUsername(), task.getExecutor().getUsername());
     }
 
     /**
@@ -111,7 +400,6 @@ public class TaskServiceImpl implements TaskService {
                 .description(taskDto.getDescription())
                 .status(Status.valueOf(taskDto.getStatus()))
                 .priority(Priority.valueOf(taskDto.getPriority()))
-                .comments(taskDto.getComments())
                 .executor(userService.getUserByUsername(taskDto.getExecutor()))
                 .build();
     }
@@ -124,20 +412,12 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     public TaskDto taskToTaskDto(Task task) {
-        return new TaskDto(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus().name(),
-                task.getPriority().name(),
-                task.getComments(),
-                task.getAuthor().getUsername(),
-                task.getExecutor().getUsername()
-        );
+        return taskToTaskDto(task, commentService.getCommentTextsByTaskIds(List.of(task.getId())));
     }
 
     /**
      * Преобразует список задач в список DTO задач.
+     * Комментарии всех задач загружаются одним запросом.
      *
      * @param taskList список задач.
      * @return {@link List<TaskDto>}.
@@ -147,20 +427,37 @@ public class TaskServiceImpl implements TaskService {
         if (taskList == null || taskList.isEmpty()) {
             return new ArrayList<>();
         }
+        Map<UUID, List<String>> comments = commentService.getCommentTextsByTaskIds(taskList.stream()
+                .map(Task::getId)
+                .toList());
         return taskList.stream()
-                .map(this::taskToTaskDto)
+                .map(task -> taskToTaskDto(task, comments))
                 .toList();
     }
 
     /**
-     * Обновляет комментарии задачи.
+     * Преобразует объект {@link Task} в {@link TaskDto}, используя заранее загруженные комментарии.
+     * Время преобразования учитывается в фазе {@code mapping} заголовка {@code Server-Timing}.
      *
-     * @param task задача с обновленными комментариями.
+     * @param task     сущность задачи.
+     * @param comments комментарии задач по идентификаторам.
+     * @return {@link TaskDto}.
      */
-    @Override
-    @Transactional
-    public void updateTaskComments(Task task) {
-        taskRepository.save(task);
+    private TaskDto taskToTaskDto(Task task, Map<UUID, List<String>> comments) {
+        long start = ServerTiming.startPhase();
+        TaskDto taskDto = new TaskDto(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus().name(),
+                task.getPriority().name(),
+                comments.getOrDefault(task.getId(), new ArrayList<>()),
+                task.getAuthor().getUsername(),
+                task.getExecutor().getUsername(),
+                task.getVersion()
+        );
+        ServerTiming.endPhase(ServerTiming.Phase.MAPPING, start);
+        return taskDto;
     }
 
     /**
@@ -178,19 +475,10 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     public Page<TaskDto> getMyTasksWithFilters(String title, String status, String priority,
                                                String author, String executor, Pageable pageable) {
-        List<TaskDto> tasks = taskRepository
-                .findTasksOfCurrentUserWithFilters(
-                        userService.getUsernameOfCurrentUser(),
-                        title,
-                        checkAndGetStatus(status),
-                        checkAndGetPriority(priority),
-                        checkAndGetAuthor(author),
-                        checkAndGetExecutor(executor),
-                        pageable)
-                .stream()
-                .map(this::taskToTaskDto)
-                .toList();
-        return new PageImpl<>(tasks);
+        Specification<Task> specification = hasAuthor(userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        Page<TaskRow> rows = taskRepository.findRows(specification, pageable);
+        return new PageImpl<>(taskRowListToDtoList(rows.getContent()), rows.getPageable(), rows.getTotalElements());
     }
 
     /**
@@ -208,58 +496,403 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     public Page<TaskDto> getAssignedTasksWithFilters(String title, String status, String priority,
                                                      String author, String executor, Pageable pageable) {
-        List<TaskDto> tasks = taskRepository
-                .findTasksAssignedToCurrentUserWithFilters(
-                        userService.getUsernameOfCurrentUser(),
-                        title,
-                        checkAndGetStatus(status),
-                        checkAndGetPriority(priority),
-                        checkAndGetAuthor(author),
-                        checkAndGetExecutor(executor),
-                        pageable)
-                .stream()
-                .map(this::taskToTaskDto)
+        Specification<Task> specification = hasExecutor(userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        Page<TaskRow> rows = taskRepository.findRows(specification, pageable);
+        return new PageImpl<>(taskRowListToDtoList(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    /**
+     * Возвращает страницу задач текущего пользователя с фильтрацией, используя keyset-пагинацию
+     * по ключу (priority_rank, id): сначала задачи с высоким приоритетом, затем с обычным и низким.
+     * Стоимость запроса не зависит от номера страницы.
+     *
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskDto>}.
+     */
+    @Override
+    @Transactional
+    public CursorPageDto<TaskDto> getMyTasksAfterCursor(String title, String status, String priority,
+                                                        String author, String executor, String after, Integer limit) {
+        TaskCursor cursor = checkAndGetCursor(after);
+        int pageSize = checkAndGetLimit(limit);
+        Specification<Task> specification = hasAuthor(userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        if (cursor != null) {
+            specification = specification.and(after(cursor));
+        }
+        List<TaskRow> rows = taskRepository.findRows(specification, KEYSET_SORT, pageSize + 1);
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * Возвращает страницу задач, назначенных текущему пользователю, с фильтрацией, используя keyset-пагинацию
+     * по ключу (priority_rank, id): сначала задачи с высоким приоритетом, затем с обычным и низким.
+     * Стоимость запроса не зависит от номера страницы.
+     *
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return {@link CursorPageDto<TaskDto>}.
+     */
+    @Override
+    @Transactional
+    public CursorPageDto<TaskDto> getAssignedTasksAfterCursor(String title, String status, String priority,
+                                                              String author, String executor, String after, Integer limit) {
+        TaskCursor cursor = checkAndGetCursor(after);
+        int pageSize = checkAndGetLimit(limit);
+        Specification<Task> specification = hasExecutor(userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        if (cursor != null) {
+            specification = specification.and(after(cursor));
+        }
+        List<TaskRow> rows = taskRepository.findRows(specification, KEYSET_SORT, pageSize + 1);
+        return toCursorPage(rows, pageSize);
+    }
+
+    /**
+     * Вычисляет ETag страницы задач текущего пользователя с фильтрацией.
+     * Читаются только идентификаторы и версии задач страницы (и количество задач, если его нельзя вычислить
+     * по странице), комментарии не загружаются. Результат совпадает с ETag, вычисленным по странице DTO.
+     *
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param pageable параметры пагинации.
+     * @return строгий ETag страницы задач.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksETag(TaskScope scope, String title, String status, String priority,
+                               String author, String executor, Pageable pageable) {
+        Specification<Task> specification = scopeSpecification(scope, userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        Page<TaskVersionRow> rows = taskRepository.findVersions(specification, pageable);
+        return ETagUtil.toListETag(rows.getContent(), rows.getTotalElements());
+    }
+
+    /**
+     * Вычисляет ETag keyset-страницы задач текущего пользователя с фильтрацией.
+     * Читаются только идентификаторы и версии задач страницы, комментарии не загружаются.
+     * Результат совпадает с ETag, вычисленным по keyset-странице DTO.
+     *
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @param after    курсор предыдущей страницы (может быть {@code null}).
+     * @param limit    размер страницы (может быть {@code null}).
+     * @return строгий ETag keyset-страницы задач.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksAfterCursorETag(TaskScope scope, String title, String status, String priority,
+                                          String author, String executor, String after, Integer limit) {
+        TaskCursor cursor = checkAndGetCursor(after);
+        int pageSize = checkAndGetLimit(limit);
+        Specification<Task> specification = scopeSpecification(scope, userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        if (cursor != null) {
+            specification = specification.and(after(cursor));
+        }
+        List<TaskVersionRow> rows = taskRepository.findVersions(specification, KEYSET_SORT, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return ETagUtil.toListETag(rows, 0);
+        }
+        return ETagUtil.toListETag(rows.subList(0, pageSize), 1);
+    }
+
+    /**
+     * Выполняет поиск задач текущего пользователя по тексту заголовка и описания.
+     * Сначала используется полнотекстовый поиск; если он ничего не находит,
+     * выполняется нечеткий поиск по заголовку (префикс или триграммное сходство).
+     *
+     * @param query    поисковый запрос.
+     * @param scope    область видимости задач.
+     * @param pageable параметры пагинации.
+     * @return {@link List<TaskDto>}, упорядоченный по релевантности.
+     * @throws IllegalArgumentException если поисковый запрос пустой.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDto> searchTasks(String query, TaskScope scope, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        String username = userService.getUsernameOfCurrentUser();
+        String text = query.strip();
+        List<UUID> ids = taskRepository.searchTaskIds(
+                username, scope.name(), text, pageable.getPageSize(), pageable.getOffset());
+        if (ids.isEmpty() && (pageable.getOffset() == 0 || !taskRepository.existsSearchMatch(username, scope.name(), text))) {
+            String prefix = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            ids = taskRepository.searchTaskIdsByTitleSimilarity(
+                    username, scope.name(), text, prefix, pageable.getPageSize(), pageable.getOffset());
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<TaskRow> rows = taskRepository.findRows(hasIdIn(ids), Sort.unsorted(), ids.size()).stream()
+                .sorted(Comparator.comparing(row -> positions.get(row.id())))
                 .toList();
-        return new PageImpl<>(tasks);
+        return taskRowListToDtoList(rows);
     }
 
     /**
-     * Проверяет и преобразует строку в {@link Status}.
+     * Выгружает задачи текущего пользователя с фильтрацией в потоковом режиме.
+     * Параметры проверяются и текущий пользователь определяется сразу, а задачи читаются уже при записи ответа
+     * порциями по {@code tasks.export.fetchSize} с keyset-пагинацией по ключу (priority_rank, id). Каждая порция
+     * вместе с ее комментариями читается в отдельной короткой транзакции только для чтения, а записывается
+     * в ответ вне транзакции, поэтому медленный клиент не удерживает соединение с базой данных.
+     * Потребление памяти не зависит от количества выгружаемых задач.
      *
-     * @param status строковое представление статуса.
-     * @return {@link Status} или {@code null}, если строка пустая.
+     * @param format   формат выгрузки.
+     * @param scope    область видимости задач.
+     * @param title    название задачи.
+     * @param status   статус задачи.
+     * @param priority приоритет задачи.
+     * @param author   автор задачи.
+     * @param executor исполнитель задачи.
+     * @return {@link StreamingResponseBody}, записывающий задачи в ответ.
+     * @throws IllegalArgumentException если статус или приоритет некорректны.
      */
-    private Status checkAndGetStatus(String status) {
-        return (status != null) ? Status.valueOf(status) : null;
+    @Override
+    public StreamingResponseBody exportTasks(TaskFileFormat format, TaskScope scope, String title, String status,
+                                             String priority, String author, String executor) {
+        Specification<Task> specification = scopeSpecification(scope, userService.getUsernameOfCurrentUser())
+                .and(withFilters(title, checkAndGetStatus(status), checkAndGetPriority(priority), author, executor));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return out -> {
+            TaskExportWriter writer = switch (format) {
+                case NDJSON -> new NdjsonTaskExportWriter(objectMapper, out);
+                case CSV -> new CsvTaskExportWriter(out);
+            };
+            TaskCursor cursor = null;
+            List<TaskDto> chunk;
+            do {
+                Specification<Task> chunkSpecification = cursor == null ? specification
+                        : specification.and(after(cursor));
+                chunk = transactionTemplate.execute(transactionStatus -> taskRowListToDtoList(
+                        taskRepository.findRows(chunkSpecification, KEYSET_SORT, exportFetchSize)));
+                for (TaskDto taskDto : chunk) {
+                    writer.write(taskDto);
+                }
+                writer.flush();
+                if (!chunk.isEmpty()) {
+                    TaskDto last = chunk.get(chunk.size() - 1);
+                    cursor = new TaskCursor(Priority.valueOf(last.getPriority()), last.getId());
+                }
+            } while (chunk.size() == exportFetchSize);
+        };
     }
 
     /**
-     * Проверяет и преобразует строку в {@link Priority}.
+     * Возвращает статистику задач текущего пользователя по статусу и приоритету.
+     * Счетчики читаются из таблицы {@code task_stats} по первичному ключу, поэтому время ответа
+     * не зависит от количества задач.
      *
-     * @param priority строковое представление приоритета.
-     * @return {@link Priority} или {@code null}, если строка пустая.
+     * @return {@link TaskStatsDto}.
      */
-    private Priority checkAndGetPriority(String priority) {
-        return (priority != null) ? Priority.valueOf(priority) : null;
+    @Override
+    public TaskStatsDto getTaskStats() {
+        Map<Status, Map<Priority, Long>> authored = emptyStats();
+        Map<Status, Map<Priority, Long>> assigned = emptyStats();
+        for (TaskStatsRow row : taskStatsRepository.findByUserId(userService.getCurrentUser().getId())) {
+            (row.assigned() ? assigned : authored).get(row.status()).put(row.priority(), row.taskCount());
+        }
+        return new TaskStatsDto(authored, assigned);
+    }
+
+    /**
+     * Создает таблицу счетчиков со всеми сочетаниями статуса и приоритета, заполненную нулями.
+     *
+     * @return {@link Map} статуса на количество задач по приоритету.
+     */
+    private Map<Status, Map<Priority, Long>> emptyStats() {
+        Map<Status, Map<Priority, Long>> stats = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, 0L);
+            }
+            stats.put(status, byPriority);
+        }
+        return stats;
+    }
+
+    /**
+     * Возвращает спецификацию задач пользователя в указанной области видимости.
+     *
+     * @param scope    область видимости задач.
+     * @param username имя пользователя.
+     * @return {@link Specification<Task>}.
+     */
+    private Specification<Task> scopeSpecification(TaskScope scope, String username) {
+        return switch (scope) {
+            case MY -> hasAuthor(username);
+            case ASSIGNED -> hasExecutor(username);
+            case ALL -> hasAuthor(username).or(hasExecutor(username));
+        };
+    }
+
+    /**
+     * Формирует страницу keyset-пагинации из списка строк задач, запрошенного с запасом в один элемент.
+     *
+     * @param rows     список строк задач (не более pageSize + 1).
+     * @param pageSize размер страницы.
+     * @return {@link CursorPageDto<TaskDto>}.
+     */
+    private CursorPageDto<TaskDto> toCursorPage(List<TaskRow> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDto<>(taskRowListToDtoList(rows), null);
+        }
+        List<TaskRow> page = rows.subList(0, pageSize);
+        TaskRow last = page.get(pageSize - 1);
+        return new CursorPageDto<>(taskRowListToDtoList(page), new TaskCursor(last.priority(), last.id()).encode());
+    }
+
+    /**
+     * Преобразует список строк задач в список DTO задач.
+     * Комментарии всех задач загружаются одним дополнительным запросом, поэтому количество запросов
+     * не зависит от размера страницы. Время маппинга без загрузки комментариев учитывается в фазе {@code mapping}
+     * заголовка {@code Server-Timing}.
+     *
+     * @param rows список строк задач.
+     * @return {@link List<TaskDto>}.
+     */
+    private List<TaskDto> taskRowListToDtoList(List<TaskRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, List<String>> comments = commentService.getCommentTextsByTaskIds(rows.stream().map(TaskRow::id).toList());
+        long start = ServerTiming.startPhase();
+        List<TaskDto> taskDtos = rows.stream()
+                .map(row -> new TaskDto(
+                        row.id(),
+                        row.title(),
+                        row.description(),
+                        row.status().name(),
+                        row.priority().name(),
+                        comments.getOrDefault(row.id(), new ArrayList<>()),
+                        row.author(),
+                        row.executor(),
+                        row.version()))
+                .toList();
+        ServerTiming.endPhase(ServerTiming.Phase.MAPPING, start);
+        return taskDtos;
+    }
+
+    /**
+     * Публикует событие изменения задачи для ленты изменений.
+     * Событие доставляется подписчикам только после фиксации текущей транзакции.
+     *
+     * @param type       тип изменения.
+     * @param id         идентификатор задачи ({@code null} для массового обновления).
+     * @param version    версия задачи после изменения.
+     * @param recipients имена пользователей, которым доставляется событие.
+     */
+    private void publishChange(TaskChangeType type, UUID id, Long version, String... recipients) {
+        eventPublisher.publishEvent(new TaskChangeEvent(type, id, version, Set.copyOf(Arrays.asList(recipients))));
+    }
+
+    /**
+     * Создает исключение о несовпадении версии задачи.
+     *
+     * @param id идентификатор задачи.
+     * @return {@link TaskVersionMismatchException}.
+     */
+    private TaskVersionMismatchException versionMismatch(UUID id) {
+        return new TaskVersionMismatchException(String.format("Task with id %s has been modified", id));
+    }
+
+    /**
+     * Проверяет и преобразует строку в {@link TaskCursor}.
+     *
+     * @param after курсор, полученный от клиента.
+     * @return {@link TaskCursor} или {@code null}, если строка пустая.
+     */
+    private TaskCursor checkAndGetCursor(String after) {
+        return (after != null && !after.isEmpty()) ? TaskCursor.decode(after) : null;
     }
 
     /**
-     * Проверяет и преобразует строку в {@link User} (автор).
+     * Проверяет размер страницы и ограничивает его максимально допустимым значением.
      *
-     * @param author строковое представление имени автора.
-     * @return {@link User} или {@code null}, если строка пустая.
+     * @param limit запрошенный размер страницы.
+     * @return размер страницы.
+     * @throws IllegalArgumentException если размер страницы меньше 1.
      */
-    private User checkAndGetAuthor(String author) {
-        return (author != null) ? userService.getUserByUsername(author) : null;
+    private int checkAndGetLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than 0");
+        }
+        return Math.min(limit, maxPageSize);
     }
 
     /**
-     * Проверяет и преобразует строку в {@link User} (исполнитель).
+     * Проверяет элемент пакетного запроса на соответствие ограничениям {@link TaskDto}
+     * и существование исполнителя.
      *
-     * @param executor строковое представление имени исполнителя.
-     * @return {@link User} или {@code null}, если строка пустая.
+     * @param taskDto   DTO задачи.
+     * @param executors найденные исполнители по именам.
+     * @return сообщение об ошибке или {@code null}, если элемент корректен.
      */
-    private User checkAndGetExecutor(String executor) {
-        return (executor != null) ? userService.getUserByUsername(executor) : null;
+    private String checkBatchItem(TaskDto taskDto, Map<String, User> executors) {
+        if (taskDto == null) {
+            return "Task cannot be null";
+        }
+        Set<ConstraintViolation<TaskDto>> violations = validator.validate(taskDto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!executors.containsKey(taskDto.getExecutor())) {
+            return String.format("User with username '%s' not found", taskDto.getExecutor());
+        }
+        return null;
+    }
+
+    /**
+     * Проверяет и преобразует строку в {@link Status}.
+     *
+     * @param status строковое представление статуса.
+     * @return {@link Status} или {@code null}, если строка пустая.
+     */
+    private Status checkAndGetStatus(String status) {
+        return (status != null) ? Status.valueOf(status) : null;
+    }
+
+    /**
+     * Проверяет и преобразует строку в {@link Priority}.
+     *
+     * @param priority строковое представление приоритета.
+     * @return {@link Priority} или {@code null}, если строка пустая.
+     */
+    private Priority checkAndGetPriority(String priority) {
+        return (priority != null) ? Priority.valueOf(priority) : null;
     }
 }
@@ -0,0 +1,408 @@
+package ru.effectivemobile.taskmanagementsystem.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskChangeDto;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
+import ru.effectivemobile.taskmanagementsystem.service.TaskStreamService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Реализация ленты изменений задач в формате Server-Sent Events.
+ * События публикуются сервисами задач и комментариев и принимаются после фиксации транзакции.
+ * Публикация не блокируется: событие сериализуется один раз и кладется в ограниченный буфер
+ * ({@code tasks.stream.bufferSize}) каждого подписчика-получателя, а запись в соединения выполняет
+ * пул {@code tasks.stream.dispatchThreads}. Подписчик, буфер которого переполнен, отключается и должен
+ * переподключиться и перечитать задачи. Каждые {@code tasks.stream.heartbeat} простаивающим подписчикам
+ * отправляется комментарий, чтобы прокси не закрывали соединение, а разорванные соединения обнаруживались.
+ * <p>
+ * Запись в соединение блокирует поток отправки, пока клиент не примет данные; длительность одной записи
+ * ограничена таймаутом контейнера ({@code server.tomcat.connection-timeout}), по истечении которого соединение
+ * закрывается. Каждые {@code tasks.stream.sendCheck} проверяется длительность текущих отправок: подписчик, отправка
+ * которому длится дольше {@code tasks.stream.sendTimeout}, отключается, его асинхронный запрос завершается с ошибкой,
+ * а пул до завершения зависшей записи получает дополнительный поток, но не больше {@code tasks.stream.maxExtraThreads}.
+ * Поэтому медленный клиент не задерживает доставку остальным подписчикам дольше {@code tasks.stream.sendTimeout}.
+ * Если дополнительных потоков не осталось, новые подписки отклоняются, пока зависшие записи не завершатся.
+ * В очереди пула не больше одной задачи на подписчика, так как отправка планируется только при снятом флаге
+ * {@code scheduled}.
+ * <p>
+ * Ожидающая подписка не занимает поток обработки запросов и соединение с базой данных, поэтому количество
+ * подписчиков ограничено памятью и {@code server.tomcat.max-connections}; сверх {@code tasks.stream.maxSubscribers}
+ * новые подписки отклоняются с {@link ServiceOverloadedException}.
+ */
+@Service
+public class TaskStreamServiceImpl implements TaskStreamService {
+
+    private static final String EXECUTOR_NAME = "taskStream";
+    private static final String OVERLOADED_MESSAGE = "Too many task stream subscribers, try again later";
+    private static final QueuedEvent HEARTBEAT = new QueuedEvent(0, null, null);
+    private static final int IDLE = 0;
+    private static final int SENDING = 1;
+    private static final int STALLED = 2;
+    private static final int STALLED_REPLACED = 3;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger extraThreads = new AtomicInteger();
+    private final AtomicInteger unreplacedStalls = new AtomicInteger();
+    private final UserServiceImpl userService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxExtraThreads;
+    private final long retryAfterSeconds;
+
+    /**
+     * Создает пул отправки событий и регистрирует метрики ленты.
+     *
+     * @param userService     сервис пользователей.
+     * @param objectMapper    {@link ObjectMapper} приложения.
+     * @param meterRegistry   реестр метрик.
+     * @param dispatchThreads количество потоков отправки событий (0 — по числу процессоров).
+     * @param bufferSize      максимальное количество неотправленных событий подписчика.
+     * @param maxSubscribers  максимальное количество подписчиков узла.
+     * @param timeout         время жизни подписки, после которого клиент переподключается.
+     * @param retryAfter      задержка, рекомендуемая клиенту при превышении количества подписчиков.
+     * @param sendTimeout     максимальная длительность отправки события, после которой подписчик отключается.
+     * @param maxExtraThreads максимальное количество потоков, заменяющих потоки с зависшей записью.
+     */
+    public TaskStreamServiceImpl(UserServiceImpl userService,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${tasks.stream.dispatchThreads:0}") int dispatchThreads,
+                                 @Value("${tasks.stream.bufferSize:32}") int bufferSize,
+                                 @Value("${tasks.stream.maxSubscribers:50000}") int maxSubscribers,
+                                 @Value("${tasks.stream.timeout:PT30M}") Duration timeout,
+                                 @Value("${tasks.stream.retryAfter:PT5S}") Duration retryAfter,
+                                 @Value("${tasks.stream.sendTimeout:PT5S}") Duration sendTimeout,
+                                 @Value("${tasks.stream.maxExtraThreads:16}") int maxExtraThreads) {
+        int poolSize = dispatchThreads > 0 ? dispatchThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxExtraThreads = maxExtraThreads;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.droppedCounter = Counter.builder("tasks.stream.dropped")
+                .description("Task stream subscribers disconnected because their buffer overflowed")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("tasks.stream.stalled")
+                .description("Task stream subscribers disconnected because sending an event took longer than the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task stream subscriptions")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Подписывает текущего пользователя на изменения созданных им и назначенных ему задач.
+     * Пользователь определяется по токену без обращения к базе данных.
+     *
+     * @return {@link SseEmitter} подписки.
+     * @throws ServiceOverloadedException если достигнуто максимальное количество подписчиков или пул отправки
+     *                                    занят зависшими записями.
+     */
+    @Override
+    public SseEmitter subscribe() throws ServiceOverloadedException {
+        String username = userService.getUsernameOfCurrentUser();
+        if (unreplacedStalls.get() > 0) {
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, retryAfterSeconds);
+        }
+        Subscriber subscriber = new Subscriber(username, createEmitter(timeoutMillis), bufferSize);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        subscribers.computeIfAbsent(username, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        offer(subscriber, HEARTBEAT);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Принимает событие после фиксации транзакции и доставляет его подписчикам-получателям.
+     * Вызов из кода без транзакции доставляет событие сразу.
+     *
+     * @param event событие изменения задачи.
+     */
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskChangeEvent event) {
+        QueuedEvent queuedEvent = null;
+        for (String recipient : event.recipients()) {
+            Set<Subscriber> recipientSubscribers = subscribers.get(recipient);
+            if (recipientSubscribers == null) {
+                continue;
+            }
+            if (queuedEvent == null) {
+                queuedEvent = new QueuedEvent(sequence.incrementAndGet(), event.type().name(), toJson(event));
+            }
+            for (Subscriber subscriber : recipientSubscribers) {
+                offer(subscriber, queuedEvent);
+            }
+        }
+    }
+
+    /**
+     * Отправляет heartbeat подписчикам, у которых нет неотправленных событий.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:PT15S}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                if (subscriber.queue.isEmpty()) {
+                    offer(subscriber, HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Отключает подписчиков, отправка которым длится дольше {@code tasks.stream.sendTimeout}.
+     * Зависшая запись не прерывается, поэтому до ее завершения пул получает дополнительный поток, если
+     * не исчерпан лимит {@code tasks.stream.maxExtraThreads}; поток возвращается после завершения записи.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.sendCheck:PT1S}")
+    public void disconnectStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                if (subscriber.sendState.get() != SENDING || now - subscriber.sendStartedNanos <= sendTimeoutNanos) {
+                    continue;
+                }
+                boolean replaced = addDispatchThread();
+                if (!subscriber.sendState.compareAndSet(SENDING, replaced ? STALLED_REPLACED : STALLED)) {
+                    if (replaced) {
+                        removeDispatchThread();
+                    }
+                    continue;
+                }
+                if (!replaced) {
+                    unreplacedStalls.incrementAndGet();
+                }
+                if (remove(subscriber)) {
+                    stalledCounter.increment();
+                    subscriber.emitter.completeWithError(new IOException("Task stream send timed out"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Закрывает подписки и останавливает пул отправки событий.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        executor.shutdownNow();
+    }
+
+    /**
+     * Кладет событие в буфер подписчика и планирует отправку, если она еще не запланирована.
+     * При переполнении буфера подписчик отключается.
+     *
+     * @param subscriber подписчик.
+     * @param event      событие.
+     */
+    private void offer(Subscriber subscriber, QueuedEvent event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            if (remove(subscriber)) {
+                droppedCounter.increment();
+                subscriber.emitter.complete();
+            }
+            return;
+        }
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Отправляет накопленные события подписчика.
+     * Флаг {@code scheduled} снимается только при пустом буфере, поэтому событие, добавленное во время отправки,
+     * не теряется и одновременно подписчика обслуживает не больше одного потока.
+     *
+     * @param subscriber подписчик.
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            QueuedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (subscriber.closed.get()) {
+                    subscriber.queue.clear();
+                    break;
+                }
+                subscriber.sendStartedNanos = System.nanoTime();
+                subscriber.sendState.set(SENDING);
+                try {
+                    subscriber.emitter.send(event == HEARTBEAT
+                            ? SseEmitter.event().comment("heartbeat")
+                            : SseEmitter.event().id(String.valueOf(event.id())).name(event.name())
+                            .data(event.data(), MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscriber);
+                    subscriber.queue.clear();
+                    break;
+                } finally {
+                    int state = subscriber.sendState.getAndSet(IDLE);
+                    if (state == STALLED_REPLACED) {
+                        removeDispatchThread();
+                    } else if (state == STALLED) {
+                        unreplacedStalls.decrementAndGet();
+                    }
+                }
+            }
+            subscriber.scheduled.set(false);
+        } while (!subscriber.queue.isEmpty() && !subscriber.closed.get() && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    /**
+     * Добавляет в пул отправки поток взамен потока с зависшей записью, если не исчерпан лимит
+     * {@code tasks.stream.maxExtraThreads}. Основной и максимальный размеры пула остаются равными.
+     *
+     * @return true, если поток добавлен.
+     */
+    private boolean addDispatchThread() {
+        synchronized (executor) {
+            if (extraThreads.get() >= maxExtraThreads) {
+                return false;
+            }
+            extraThreads.incrementAndGet();
+            executor.setMaximumPoolSize(executor.getMaximumPoolSize() + 1);
+            executor.setCorePoolSize(executor.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    /**
+     * Возвращает поток, добавленный {@link #addDispatchThread()}, после завершения зависшей записи.
+     */
+    private void removeDispatchThread() {
+        synchronized (executor) {
+            extraThreads.decrementAndGet();
+            executor.setCorePoolSize(executor.getCorePoolSize() - 1);
+            executor.setMaximumPoolSize(executor.getMaximumPoolSize() - 1);
+        }
+    }
+
+    /**
+     * Создает {@link SseEmitter} подписки.
+     *
+     * @param timeoutMillis время жизни подписки в миллисекундах.
+     * @return {@link SseEmitter} подписки.
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Удаляет подписчика из реестра.
+     *
+     * @param subscriber подписчик.
+     * @return true, если подписчик был удален этим вызовом.
+     */
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.username, (username, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        return true;
+    }
+
+    /**
+     * Сериализует событие в JSON.
+     *
+     * @param event событие изменения задачи.
+     * @return JSON-представление события.
+     */
+    private String toJson(TaskChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(new TaskChangeDto(event.type(), event.taskId(), event.version()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Подписка: соединение, буфер неотправленных событий, флаги состояния и время начала текущей отправки.
+     */
+    private static final class Subscriber {
+
+        private final String username;
+        private final SseEmitter emitter;
+        private final Queue<QueuedEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile long sendStartedNanos;
+
+        private Subscriber(String username, SseEmitter emitter, int bufferSize) {
+            this.username = username;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    /**
+     * Событие, сериализованное для отправки; один экземпляр разделяется всеми получателями.
+     *
+     * @param id   порядковый номер события.
+     * @param name тип события.
+     * @param data JSON-представление события.
+     */
+    private record QueuedEvent(long id, String name, String data) {
+    }
+}
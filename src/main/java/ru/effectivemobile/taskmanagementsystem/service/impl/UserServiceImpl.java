@@ -1,62 +1,88 @@
 package ru.effectivemobile.taskmanagementsystem.service.impl;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import ru.effectivemobile.taskmanagementsystem.domain.dto.RegistrationUserDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.UserRef;
+import ru.effectivemobile.taskmanagementsystem.domain.projection.UserSnapshot;
 import ru.effectivemobile.taskmanagementsystem.exception.NotAuthorizedUserException;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
 import ru.effectivemobile.taskmanagementsystem.exception.UserAlreadyExistsException;
 import ru.effectivemobile.taskmanagementsystem.exception.UserNotFoundException;
 import ru.effectivemobile.taskmanagementsystem.repository.UserRepository;
 import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.PasswordHashingService;
 import ru.effectivemobile.taskmanagementsystem.security.Role;
 import ru.effectivemobile.taskmanagementsystem.service.UserService;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTiming;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static ru.effectivemobile.taskmanagementsystem.config.CacheConfig.USERS_CACHE;
+
 /**
  * Реализация сервиса для работы с пользователями.
  * Предоставляет методы для создания новых пользователей, получения текущего пользователя и интеграции с Spring Security.
+ * Время выполнения публичных методов публикуется в таймере {@code user.service} с тегом {@code method}.
  */
+@Timed(value = "user.service", description = "Time spent in user service methods")
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserServiceImpl implements UserService, UserDetailsService {
 
+    private static final String CURRENT_USER_ATTRIBUTE = UserServiceImpl.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final CacheManager cacheManager;
 
     /**
      * Создает нового пользователя на основе переданных данных.
+     * Пароль хэшируется вне транзакции, чтобы не удерживать соединение с базой данных.
      *
      * @param registrationUserDto данные для регистрации нового пользователя.
      * @return {@link User}.
      * @throws UserAlreadyExistsException если пользователь с указанным именем уже существует.
+     * @throws ServiceOverloadedException если пул хэширования паролей перегружен.
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createNewUser(RegistrationUserDto registrationUserDto) throws UserAlreadyExistsException {
         Optional<User> possibleUser = userRepository.findByUsername(registrationUserDto.getUsername());
         User user;
         if (possibleUser.isEmpty()) {
             user = User.builder()
                     .username(registrationUserDto.getUsername())
-                    .password(passwordEncoder.encode(registrationUserDto.getPassword()))
+                    .password(passwordHashingService.encode(registrationUserDto.getPassword()))
                     .roles(Set.of(Role.ROLE_USER))
                     .build();
         } else {
             throw new UserAlreadyExistsException(String.format("User with username '%s' already exists", registrationUserDto.getUsername()));
         }
-        return userRepository.save(user);
+        user = userRepository.save(user);
+        evictUser(user.getUsername());
+        return user;
     }
 
     /**
@@ -72,6 +98,44 @@ public class UserServiceImpl implements UserService, UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(String.format("User with username '%s' not found", username)));
     }
 
+    /**
+     * Возвращает ссылки на пользователей по их именам.
+     * Имена разрешаются одним запросом с оператором IN, сами пользователи не загружаются.
+     *
+     * @param usernames имена пользователей.
+     * @return {@link Map} имени пользователя на ссылку {@link User}; отсутствующие имена не попадают в результат.
+     */
+    @Override
+    public Map<String, User> getUserReferencesByUsernames(Collection<String> usernames) {
+        Map<String, User> users = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return users;
+        }
+        for (UserRef ref : userRepository.findRefsByUsernameIn(usernames)) {
+            users.put(ref.username(), userRepository.getReferenceById(ref.id()));
+        }
+        return users;
+    }
+
+    /**
+     * Возвращает идентификаторы пользователей по их именам одним запросом с оператором IN.
+     *
+     * @param usernames имена пользователей.
+     * @return {@link Map} имени пользователя на идентификатор; отсутствующие имена не попадают в результат.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, UUID> getUserIdsByUsernames(Collection<String> usernames) {
+        Map<String, UUID> ids = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return ids;
+        }
+        for (UserRef ref : userRepository.findRefsByUsernameIn(usernames)) {
+            ids.put(ref.username(), ref.id());
+        }
+        return ids;
+    }
+
     /**
      * Возвращает имя текущего пользователя.
      *
@@ -93,13 +157,102 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
     /**
      * Возвращает текущего пользователя.
+     * Пользователь строится из снимка (id, имя, роли), который запоминается на время запроса
+     * и кэшируется по имени пользователя, поэтому база данных не запрашивается на каждый вызов.
+     * Возвращаемая сущность не связана с контекстом персистентности: для установки в связи
+     * используйте {@link #getCurrentUserReference()}.
      *
      * @return {@link User}.
+     * @throws UsernameNotFoundException если пользователь не найден.
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User getCurrentUser() {
-        String username = this.getUsernameOfCurrentUser();
-        return this.getUserByUsername(username);
+        return getCurrentUserSnapshot().toUser();
+    }
+
+    /**
+     * Возвращает ссылку на текущего пользователя для установки в связи сущностей.
+     * Пользователь не загружается из базы данных.
+     *
+     * @return {@link User}.
+     */
+    @Override
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserSnapshot().id());
+    }
+
+    /**
+     * Сбрасывает кэшированный снимок пользователя.
+     *
+     * @param username имя пользователя.
+     */
+    @Override
+    public void evictUser(String username) {
+        Cache cache = cacheManager.getCache(USERS_CACHE);
+        if (cache != null) {
+            cache.evict(username);
+        }
+    }
+
+    /**
+     * Возвращает снимок текущего пользователя.
+     * Снимок берется из атрибутов текущего запроса, затем из кэша, и только затем из базы данных.
+     * Загрузка выполняется вне блокировки кэша: загрузчик {@code Cache.get(key, loader)} работает внутри
+     * {@code ConcurrentHashMap.compute} и закрепил бы виртуальный поток на время запроса к базе данных.
+     * Время определения учитывается в фазе {@code user} заголовка {@code Server-Timing}.
+     *
+     * @return {@link UserSnapshot}.
+     * @throws UsernameNotFoundException если пользователь не найден.
+     */
+    private UserSnapshot getCurrentUserSnapshot() {
+        long start = ServerTiming.startPhase();
+        try {
+            return resolveCurrentUserSnapshot();
+        } finally {
+            ServerTiming.endPhase(ServerTiming.Phase.USER, start);
+        }
+    }
+
+    /**
+     * Определяет снимок текущего пользователя: из атрибутов запроса, из кэша или из базы данных.
+     *
+     * @return {@link UserSnapshot}.
+     * @throws UsernameNotFoundException если пользователь не найден.
+     */
+    private UserSnapshot resolveCurrentUserSnapshot() {
+        String username = getUsernameOfCurrentUser();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UserSnapshot snapshot
+                && snapshot.username().equals(username)) {
+            return snapshot;
+        }
+        Cache cache = cacheManager.getCache(USERS_CACHE);
+        UserSnapshot snapshot = (cache != null) ? cache.get(username, UserSnapshot.class) : null;
+        if (snapshot == null) {
+            snapshot = loadUserSnapshot(username);
+            if (cache != null) {
+                cache.put(username, snapshot);
+            }
+        }
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Загружает снимок пользователя из базы данных вместе с ролями одним запросом.
+     *
+     * @param username имя пользователя.
+     * @return {@link UserSnapshot}.
+     * @throws UsernameNotFoundException если пользователь не найден.
+     */
+    private UserSnapshot loadUserSnapshot(String username) {
+        return userRepository.findWithRolesByUsername(username)
+                .map(UserSnapshot::of)
+                .orElseThrow(() -> new UsernameNotFoundException(String.format("User with username '%s' not found", username)));
     }
 
     /**
@@ -0,0 +1,126 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import ru.effectivemobile.taskmanagementsystem.timing.ServerTiming;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Источник данных, учитывающий каждый выполненный JDBC-запрос в {@link SqlStatementInspector}
+ * и во времени базы данных {@link ServerTiming}.
+ * Оборачивает соединения и запросы, поэтому учитываются и запросы Hibernate, и {@code JdbcTemplate};
+ * операции COPY выполняются через API драйвера в обход {@link Statement} и не учитываются.
+ * Время измеряется только при открытой области наблюдения или включенной разбивке {@code Server-Timing};
+ * общее количество выполненных запросов всех потоков считается всегда.
+ */
+public class InspectingDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "batch";
+
+    private final LongAdder executedStatements = new LongAdder();
+
+    /**
+     * @param targetDataSource источник данных, выполняющий запросы.
+     */
+    public InspectingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(), executedStatements));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password),
+                executedStatements));
+    }
+
+    /**
+     * Возвращает количество JDBC-запросов, выполненных через источник данных всеми потоками с момента его создания.
+     *
+     * @return количество выполненных запросов.
+     */
+    public long getExecutedStatementCount() {
+        return executedStatements.sum();
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InspectingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Оборачивает созданные соединением запросы.
+     */
+    private record ConnectionHandler(Connection target, LongAdder executedStatements) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InspectingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType().asSubclass(Statement.class), new StatementHandler(statement, sql, executedStatements));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Учитывает выполнение запроса: текст берется из подготовленного запроса или из аргумента {@code execute*}.
+     */
+    private record StatementHandler(Statement target, String preparedSql, LongAdder executedStatements)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return InspectingDataSource.invoke(target, method, args);
+            }
+            executedStatements.increment();
+            SqlStatementStats stats = SqlStatementInspector.current();
+            ServerTiming timing = ServerTiming.current();
+            if (stats == null && timing == null) {
+                return InspectingDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return InspectingDataSource.invoke(target, method, args);
+            } finally {
+                long nanos = System.nanoTime() - start;
+                if (stats != null) {
+                    stats.record(sql(method, args), nanos);
+                }
+                if (timing != null) {
+                    timing.recordStatement(nanos);
+                }
+            }
+        }
+
+        private String sql(Method method, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String text) {
+                return text;
+            }
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            return method.getName().endsWith("Batch") ? BATCH : method.getName();
+        }
+    }
+}
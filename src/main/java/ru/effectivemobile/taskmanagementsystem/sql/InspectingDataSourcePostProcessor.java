@@ -0,0 +1,20 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Оборачивает источники данных приложения в {@link InspectingDataSource}.
+ * Уже обернутый источник не оборачивается повторно, поэтому постпроцессор можно регистрировать в нескольких конфигах.
+ */
+public class InspectingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InspectingDataSource)) {
+            return new InspectingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
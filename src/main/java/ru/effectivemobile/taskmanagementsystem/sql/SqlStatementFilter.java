@@ -0,0 +1,82 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Фильтр, считающий JDBC-запросы каждого HTTP-запроса.
+ * Количество запросов и их суммарное время добавляются в заголовки {@value #STATEMENT_COUNT_HEADER}
+ * и {@value #STATEMENT_TIME_HEADER} непосредственно перед фиксацией ответа, поэтому учитываются и запросы,
+ * выполненные при сериализации тела. Если одна форма запроса выполнилась больше {@code repeatThreshold} раз,
+ * в лог пишется предупреждение о вероятной проблеме N+1.
+ * Для асинхронных запросов (лента изменений, выгрузка) учитывается только часть, выполненная в потоке запроса.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-Sql-Statement-Time";
+
+    private final int repeatThreshold;
+
+    /**
+     * @param repeatThreshold допустимое количество выполнений одной формы запроса за HTTP-запрос.
+     */
+    public SqlStatementFilter(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementInspector.start();
+        StatsHeaderResponseWrapper wrapper = new StatsHeaderResponseWrapper(response, stats);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            SqlStatementInspector.stop(stats);
+            if (!response.isCommitted()) {
+                wrapper.onResponseCommitted();
+            }
+            warnRepeatedStatements(request, stats);
+        }
+    }
+
+    private void warnRepeatedStatements(HttpServletRequest request, SqlStatementStats stats) {
+        Map<String, Integer> repeated = stats.getRepeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty() && log.isWarnEnabled()) {
+            repeated.forEach((shape, count) -> log.warn("Possible N+1: statement executed {} times in {} {}: {}",
+                    count, request.getMethod(), request.getRequestURI(), shape));
+        }
+    }
+
+    /**
+     * Добавляет заголовки со статистикой перед фиксацией ответа.
+     */
+    private static final class StatsHeaderResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats stats;
+
+        private StatsHeaderResponseWrapper(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.setHeader(STATEMENT_TIME_HEADER, String.format(Locale.ROOT, "%.3fms", stats.getTotalMillis()));
+            disableOnResponseCommitted();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+/**
+ * Хранит статистику JDBC-запросов текущего потока.
+ * Области наблюдения вкладываются: запрос учитывается в текущей области и во всех объемлющих,
+ * поэтому тест, открывший область вокруг вызова MockMvc, видит и запросы, посчитанные фильтром.
+ * Если область не открыта, запросы не учитываются.
+ */
+public final class SqlStatementInspector {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementInspector() {
+    }
+
+    /**
+     * Открывает область наблюдения в текущем потоке.
+     *
+     * @return статистика открытой области.
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Закрывает область наблюдения и восстанавливает объемлющую.
+     *
+     * @param stats статистика закрываемой области, полученная из {@link #start()}.
+     */
+    public static void stop(SqlStatementStats stats) {
+        if (stats.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats.getParent());
+        }
+    }
+
+    /**
+     * @return статистика текущей области или null, если область не открыта.
+     */
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,106 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Статистика JDBC-запросов, выполненных в одной области наблюдения (например, в одном HTTP-запросе).
+ * Тексты запросов хранятся как есть и приводятся к форме (без литералов и с одним параметром в списке {@code IN})
+ * только при построении отчета, чтобы не тратить время на каждом запросе.
+ * Экземпляр используется одним потоком.
+ */
+public final class SqlStatementStats {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int statementCount;
+    private long totalNanos;
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * @return количество выполненных запросов; пакет ({@code executeBatch}) считается одним запросом.
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * @return суммарное время выполнения запросов в наносекундах.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return суммарное время выполнения запросов в миллисекундах.
+     */
+    public double getTotalMillis() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    /**
+     * Возвращает количество выполнений каждой формы запроса в порядке убывания.
+     *
+     * @return форма запроса и количество ее выполнений.
+     */
+    public Map<String, Integer> getShapeCounts() {
+        Map<String, Integer> shapes = new HashMap<>();
+        statements.forEach((sql, count) -> shapes.merge(shapeOf(sql), count, Integer::sum));
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Возвращает формы запросов, выполненные больше заданного количества раз, — признак проблемы N+1.
+     *
+     * @param threshold допустимое количество выполнений одной формы.
+     * @return форма запроса и количество ее выполнений.
+     */
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        getShapeCounts().forEach((shape, count) -> {
+            if (count > threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * Учитывает выполненный запрос в этой и во всех объемлющих областях наблюдения.
+     */
+    void record(String sql, long nanos) {
+        for (SqlStatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.statementCount++;
+            stats.totalNanos += nanos;
+            stats.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    SqlStatementStats getParent() {
+        return parent;
+    }
+
+    /**
+     * Приводит текст запроса к форме: литералы заменяются на {@code ?}, списки параметров сворачиваются.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,133 @@
+package ru.effectivemobile.taskmanagementsystem.timing;
+
+import java.util.Locale;
+
+/**
+ * Разбивка времени обработки HTTP-запроса по фазам для заголовка {@code Server-Timing}.
+ * Разбивка хранится в потоке запроса и существует только при включенном свойстве {@code serverTiming.enabled};
+ * иначе замер фазы сводится к одному чтению {@link ThreadLocal} без вызова {@link System#nanoTime()}.
+ * Фазы могут пересекаться: {@code db} включает запросы, выполненные при определении пользователя и маппинге.
+ */
+public final class ServerTiming {
+
+    /**
+     * Значение, которое {@link #startPhase()} возвращает при выключенной разбивке.
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[PHASES.length];
+    private int statementCount;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * Начинает разбивку для текущего потока.
+     *
+     * @return разбивка текущего запроса.
+     */
+    public static ServerTiming start() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Завершает разбивку текущего потока.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return разбивка текущего запроса или null, если она выключена.
+     */
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Отмечает начало фазы.
+     *
+     * @return момент начала или {@link #NOT_STARTED}, если разбивка выключена.
+     */
+    public static long startPhase() {
+        return CURRENT.get() != null ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Добавляет к фазе время, прошедшее с момента начала.
+     *
+     * @param phase фаза.
+     * @param start момент начала, полученный из {@link #startPhase()}.
+     */
+    public static void endPhase(Phase phase, long start) {
+        if (start == NOT_STARTED) {
+            return;
+        }
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Учитывает выполненный JDBC-запрос в фазе {@link Phase#DB}.
+     *
+     * @param nanos время выполнения запроса.
+     */
+    public void recordStatement(long nanos) {
+        phaseNanos[Phase.DB.ordinal()] += nanos;
+        statementCount++;
+    }
+
+    /**
+     * Формирует значение заголовка {@code Server-Timing}: фазы с ненулевым временем и общее время.
+     *
+     * @return значение заголовка.
+     */
+    public String toHeaderValue() {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos > 0) {
+                String description = phase == Phase.DB ? statementCount + " statements" : phase.description;
+                appendMetric(header, phase.metricName, nanos, description);
+            }
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos, "Total");
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos, String description) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name)
+                .append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0))
+                .append(";desc=\"").append(description).append('"');
+    }
+
+    /**
+     * Фазы обработки запроса.
+     */
+    public enum Phase {
+        JWT("jwt", "JWT verification"),
+        USER("user", "Current user"),
+        DB("db", "Database"),
+        MAPPING("mapping", "DTO mapping"),
+        JSON("json", "JSON serialization");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.effectivemobile.taskmanagementsystem.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Фильтр, добавляющий в ответ заголовок {@value #SERVER_TIMING_HEADER} с разбивкой времени обработки запроса.
+ * Заголовок добавляется непосредственно перед фиксацией ответа, поэтому в него попадает время сериализации JSON.
+ * Для асинхронных запросов (лента изменений, выгрузка) заголовок отражает только часть, выполненную в потоке запроса.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start();
+        ServerTimingResponseWrapper wrapper = new ServerTimingResponseWrapper(response, timing);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            ServerTiming.stop();
+            if (!response.isCommitted()) {
+                wrapper.onResponseCommitted();
+            }
+        }
+    }
+
+    /**
+     * Добавляет заголовок с разбивкой перед фиксацией ответа.
+     */
+    private static final class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final ServerTiming timing;
+
+        private ServerTimingResponseWrapper(HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            ((HttpServletResponse) getResponse()).setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue());
+            disableOnResponseCommitted();
+        }
+    }
+}
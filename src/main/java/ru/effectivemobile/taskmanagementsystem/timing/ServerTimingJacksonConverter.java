@@ -0,0 +1,57 @@
+package ru.effectivemobile.taskmanagementsystem.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON-конвертер, измеряющий время сериализации в фазе {@link ServerTiming.Phase#JSON}.
+ * При включенной разбивке тело сериализуется в буфер и только затем записывается в ответ: иначе ответ
+ * фиксировался бы до окончания замера и заголовок {@code Server-Timing} не содержал бы времени сериализации.
+ */
+public class ServerTimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    /**
+     * @param objectMapper настроенный {@link ObjectMapper} приложения.
+     */
+    public ServerTimingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = ServerTiming.startPhase();
+        if (start == ServerTiming.NOT_STARTED) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), buffer));
+        ServerTiming.endPhase(ServerTiming.Phase.JSON, start);
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    /**
+     * Сообщение, тело которого записывается в буфер, а заголовки — в исходный ответ.
+     */
+    private record BufferedOutputMessage(HttpHeaders headers, OutputStream body) implements HttpOutputMessage {
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+    }
+}
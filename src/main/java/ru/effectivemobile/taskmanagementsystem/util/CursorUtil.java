@@ -0,0 +1,44 @@
+package ru.effectivemobile.taskmanagementsystem.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Утилитный класс для кодирования и декодирования непрозрачных курсоров keyset-пагинации.
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Кодирует значения ключа сортировки в непрозрачный курсор.
+     *
+     * @param parts значения ключа сортировки.
+     * @return {@link String} в формате Base64 URL.
+     */
+    public static String encode(String... parts) {
+        String raw = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Декодирует курсор в значения ключа сортировки.
+     *
+     * @param cursor        курсор, полученный от клиента.
+     * @param expectedParts ожидаемое количество значений.
+     * @return массив значений ключа сортировки.
+     * @throws IllegalArgumentException если курсор некорректен.
+     */
+    public static String[] decode(String cursor, int expectedParts) throws IllegalArgumentException {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,28 @@
+package ru.effectivemobile.taskmanagementsystem.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Утилитный класс для вычисления дайджестов токенов.
+ * Позволяет хранить и сравнивать токены, не храня их в открытом виде.
+ */
+public class DigestUtil {
+
+    /**
+     * Вычисляет SHA-256 дайджест строки.
+     *
+     * @param value исходная строка.
+     * @return {@link String} из 64 шестнадцатеричных символов.
+     */
+    public static String sha256Hex(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
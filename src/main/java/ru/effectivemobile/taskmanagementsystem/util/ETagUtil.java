@@ -0,0 +1,64 @@
+package ru.effectivemobile.taskmanagementsystem.util;
+
+import ru.effectivemobile.taskmanagementsystem.domain.projection.TaskVersionRow;
+
+import java.util.List;
+
+/**
+ * Утилитный класс для формирования и разбора ETag задач.
+ * ETag задачи - строгий тег с номером ее версии, например {@code "3"}.
+ * Версия задачи увеличивается при любом изменении задачи, в том числе при добавлении комментария.
+ */
+public class ETagUtil {
+
+    private static final String ANY = "*";
+
+    /**
+     * Формирует строгий ETag по версии задачи.
+     *
+     * @param version версия задачи.
+     * @return {@link String} в формате {@code "<версия>"}.
+     */
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Формирует строгий ETag списка задач.
+     * Тег вычисляется по идентификаторам и версиям задач списка и размеру выборки, поэтому он меняется
+     * не только при изменении задачи, но и при ее удалении, добавлении или выходе из выборки.
+     *
+     * @param rows  идентификаторы и версии задач списка в порядке выдачи.
+     * @param total общее количество задач выборки; для keyset-страниц - 1, если есть следующая страница, иначе 0.
+     * @return {@link String} в формате {@code "<32 шестнадцатеричных символа>"}.
+     */
+    public static String toListETag(List<TaskVersionRow> rows, long total) {
+        StringBuilder builder = new StringBuilder().append(total);
+        for (TaskVersionRow row : rows) {
+            builder.append(';').append(row.id()).append(':').append(row.version());
+        }
+        return "\"" + DigestUtil.sha256Hex(builder.toString()).substring(0, 32) + "\"";
+    }
+
+    /**
+     * Разбирает заголовок If-Match в ожидаемую версию задачи.
+     *
+     * @param ifMatch значение заголовка If-Match (может быть {@code null}).
+     * @return ожидаемая версия или {@code null}, если заголовок отсутствует или равен {@code *}.
+     * @throws IllegalArgumentException если заголовок не является одним строгим ETag версии.
+     */
+    public static Long parseIfMatch(String ifMatch) throws IllegalArgumentException {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag");
+        }
+    }
+}
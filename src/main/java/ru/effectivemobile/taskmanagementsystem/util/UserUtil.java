@@ -1,5 +1,6 @@
 package ru.effectivemobile.taskmanagementsystem.util;
 
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
 import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
 import ru.effectivemobile.taskmanagementsystem.security.Role;
@@ -29,4 +30,15 @@ public class UserUtil {
     public static boolean isCurrentUserOwner(User user, Task task) {
         return user.getUsername().equals(task.getAuthor().getUsername());
     }
+
+    /**
+     * Проверяет, является ли текущий пользователь автором задачи, представленной DTO.
+     *
+     * @param user    объект пользователя для проверки
+     * @param taskDto DTO задачи для проверки
+     * @return true, если пользователь является автором задачи, иначе false
+     */
+    public static boolean isCurrentUserOwner(User user, TaskDto taskDto) {
+        return user.getUsername().equals(taskDto.getAuthor());
+    }
 }
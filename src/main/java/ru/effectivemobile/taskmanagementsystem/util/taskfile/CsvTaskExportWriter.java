@@ -0,0 +1,72 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Запись задач в формате CSV (RFC 4180) с заголовком.
+ * Комментарии задачи выводятся в одном поле, по одному на строку.
+ */
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    private static final String HEADER = "id,title,description,status,priority,author,executor,version,comments";
+
+    private final Writer writer;
+
+    /**
+     * Создает запись поверх выходного потока и записывает заголовок. Поток не закрывается.
+     *
+     * @param out выходной поток.
+     * @throws IOException если возникает ошибка записи.
+     */
+    public CsvTaskExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskDto taskDto) throws IOException {
+        writer.write(String.valueOf(taskDto.getId()));
+        writeField(taskDto.getTitle());
+        writeField(taskDto.getDescription());
+        writeField(taskDto.getStatus());
+        writeField(taskDto.getPriority());
+        writeField(taskDto.getAuthor());
+        writeField(taskDto.getExecutor());
+        writeField(taskDto.getVersion() != null ? taskDto.getVersion().toString() : null);
+        writeField(taskDto.getComments() != null ? String.join("\n", taskDto.getComments()) : null);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Записывает разделитель и значение поля, заключая его в кавычки при необходимости.
+     *
+     * @param value значение поля (может быть {@code null}).
+     * @throws IOException если возникает ошибка записи.
+     */
+    private void writeField(String value) throws IOException {
+        writer.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,146 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Чтение задач в формате CSV (RFC 4180) с заголовком.
+ * Столбцы определяются по заголовку без учета регистра и порядка: обязательны {@code title}, {@code description},
+ * {@code status}, {@code priority}, {@code author} и {@code executor}, необязателен {@code comments}
+ * (комментарии в одном поле, по одному на строку). Остальные столбцы, в том числе {@code id} и {@code version}
+ * из выгрузки, игнорируются.
+ */
+public class CsvTaskImportReader implements TaskImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("title", "description", "status", "priority", "author", "executor");
+    private static final String COMMENTS_COLUMN = "comments";
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long index;
+
+    /**
+     * Создает чтение поверх входного потока и читает заголовок. Поток не закрывается.
+     *
+     * @param in входной поток.
+     * @throws IOException              если возникает ошибка чтения.
+     * @throws IllegalArgumentException если заголовок отсутствует или в нем нет обязательных столбцов.
+     */
+    public CsvTaskImportReader(InputStream in) throws IOException, IllegalArgumentException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException(String.format("CSV header must contain column '%s'", column));
+            }
+        }
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isEmpty());
+        long rowIndex = index++;
+        if (record.size() < columns.size()) {
+            return new TaskImportRow(rowIndex, null,
+                    String.format("Expected %d fields but found %d", columns.size(), record.size()));
+        }
+        String comments = field(record, COMMENTS_COLUMN);
+        TaskDto taskDto = new TaskDto();
+        taskDto.setTitle(field(record, "title"));
+        taskDto.setDescription(field(record, "description"));
+        taskDto.setStatus(field(record, "status"));
+        taskDto.setPriority(field(record, "priority"));
+        taskDto.setAuthor(field(record, "author"));
+        taskDto.setExecutor(field(record, "executor"));
+        taskDto.setComments(comments == null || comments.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(comments.split("\r?\n"))));
+        return new TaskImportRow(rowIndex, taskDto, null);
+    }
+
+    /**
+     * Возвращает значение столбца записи.
+     *
+     * @param record значения записи.
+     * @param column название столбца.
+     * @return значение или {@code null}, если столбца нет в заголовке.
+     */
+    private String field(List<String> record, String column) {
+        Integer position = columns.get(column);
+        return position != null ? record.get(position) : null;
+    }
+
+    /**
+     * Читает одну запись CSV. Поля в кавычках могут содержать разделители, переводы строк и удвоенные кавычки.
+     *
+     * @return список значений полей или {@code null}, если файл закончился.
+     * @throws IOException если возникает ошибка чтения.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        record.add(field.toString());
+        return record;
+    }
+}
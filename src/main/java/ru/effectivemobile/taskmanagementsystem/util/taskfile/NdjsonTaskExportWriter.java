@@ -0,0 +1,45 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Запись задач в формате NDJSON: каждая задача - JSON-объект на отдельной строке.
+ */
+public class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    /**
+     * Создает запись поверх выходного потока. Поток не закрывается.
+     *
+     * @param objectMapper {@link ObjectMapper} приложения.
+     * @param out          выходной поток.
+     * @throws IOException если не удалось создать генератор JSON.
+     */
+    public NdjsonTaskExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.writer = objectMapper.writerFor(TaskDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+    }
+
+    @Override
+    public void write(TaskDto taskDto) throws IOException {
+        writer.writeValue(generator, taskDto);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,54 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Чтение задач в формате NDJSON: каждая непустая строка - JSON-объект {@link TaskDto}.
+ * Поля {@code id} и {@code version} игнорируются при загрузке.
+ */
+public class NdjsonTaskImportReader implements TaskImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long index;
+
+    /**
+     * Создает чтение поверх входного потока. Поток не закрывается.
+     *
+     * @param objectMapper {@link ObjectMapper} приложения.
+     * @param in           входной поток.
+     */
+    public NdjsonTaskImportReader(ObjectMapper objectMapper, InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectReader = objectMapper.readerFor(TaskDto.class);
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        long rowIndex = index++;
+        try {
+            TaskDto taskDto = objectReader.readValue(line);
+            return taskDto != null
+                    ? new TaskImportRow(rowIndex, taskDto, null)
+                    : new TaskImportRow(rowIndex, null, "Task cannot be null");
+        } catch (JsonProcessingException e) {
+            return new TaskImportRow(rowIndex, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
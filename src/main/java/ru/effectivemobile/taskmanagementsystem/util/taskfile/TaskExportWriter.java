@@ -0,0 +1,27 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+import java.io.IOException;
+
+/**
+ * Потоковая запись задач в выгрузку.
+ * Реализации не накапливают задачи и пишут каждую сразу в выходной поток.
+ */
+public interface TaskExportWriter {
+
+    /**
+     * Записывает задачу.
+     *
+     * @param taskDto DTO задачи.
+     * @throws IOException если возникает ошибка записи.
+     */
+    void write(TaskDto taskDto) throws IOException;
+
+    /**
+     * Передает записанные данные клиенту.
+     *
+     * @throws IOException если возникает ошибка записи.
+     */
+    void flush() throws IOException;
+}
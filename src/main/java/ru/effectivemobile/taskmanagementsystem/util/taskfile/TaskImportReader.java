@@ -0,0 +1,19 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import java.io.IOException;
+
+/**
+ * Потоковое чтение задач из загружаемого файла.
+ * Реализации читают файл по одной строке данных и не накапливают его содержимое.
+ */
+public interface TaskImportReader {
+
+    /**
+     * Читает следующую строку данных.
+     * Ошибка разбора строки не прерывает чтение: она возвращается в {@link TaskImportRow#error()}.
+     *
+     * @return {@link TaskImportRow} или {@code null}, если файл закончился.
+     * @throws IOException если возникает ошибка чтения.
+     */
+    TaskImportRow next() throws IOException;
+}
@@ -0,0 +1,13 @@
+package ru.effectivemobile.taskmanagementsystem.util.taskfile;
+
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+
+/**
+ * Строка загружаемого файла задач.
+ *
+ * @param index номер строки данных в файле, начиная с 0 (заголовок CSV не учитывается).
+ * @param task  DTO задачи или {@code null}, если строку не удалось разобрать.
+ * @param error сообщение об ошибке разбора или {@code null}.
+ */
+public record TaskImportRow(long index, TaskDto task, String error) {
+}
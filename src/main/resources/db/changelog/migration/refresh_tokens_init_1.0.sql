@@ -0,0 +1,14 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    username   VARCHAR(50) PRIMARY KEY REFERENCES users (username) ON DELETE CASCADE,
+    token_hash CHAR(64)                 NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_token_hash ON refresh_tokens USING HASH (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+--rollback DROP TABLE IF EXISTS refresh_tokens;
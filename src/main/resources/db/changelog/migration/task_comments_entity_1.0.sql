@@ -0,0 +1,19 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+ALTER TABLE task_comments ADD COLUMN IF NOT EXISTS id UUID NOT NULL DEFAULT gen_random_uuid();
+ALTER TABLE task_comments ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE task_comments ADD CONSTRAINT task_comments_pkey PRIMARY KEY (id);
+
+-- existing comments get distinct timestamps in their current storage order
+UPDATE task_comments c
+SET created_at = c.created_at + o.rn * INTERVAL '1 microsecond'
+FROM (SELECT id, row_number() OVER (PARTITION BY task_id ORDER BY ctid) AS rn FROM task_comments) o
+WHERE o.id = c.id;
+
+CREATE INDEX IF NOT EXISTS idx_task_comments_task_id_created_at_id ON task_comments (task_id, created_at, id);
+
+--rollback DROP INDEX IF EXISTS idx_task_comments_task_id_created_at_id;
+--rollback ALTER TABLE task_comments DROP CONSTRAINT IF EXISTS task_comments_pkey;
+--rollback ALTER TABLE task_comments DROP COLUMN IF EXISTS created_at;
+--rollback ALTER TABLE task_comments DROP COLUMN IF EXISTS id;
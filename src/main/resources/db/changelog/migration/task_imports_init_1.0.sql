@@ -0,0 +1,17 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+CREATE TABLE IF NOT EXISTS task_imports
+(
+    id             UUID PRIMARY KEY,
+    created_by     VARCHAR(50)              NOT NULL REFERENCES users (username) ON DELETE CASCADE,
+    format         VARCHAR(10)              NOT NULL,
+    status         VARCHAR(20)              NOT NULL,
+    processed_rows BIGINT                   NOT NULL DEFAULT 0,
+    imported_rows  BIGINT                   NOT NULL DEFAULT 0,
+    rejected_rows  BIGINT                   NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    updated_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+--rollback DROP TABLE IF EXISTS task_imports;
@@ -0,0 +1,79 @@
+--liquibase formatted sql
+--changeset a.rogachev:1 splitStatements:false
+
+CREATE TABLE IF NOT EXISTS task_stats
+(
+    user_id    UUID        NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    role       VARCHAR(10) NOT NULL,
+    status     VARCHAR(50) NOT NULL,
+    priority   VARCHAR(50) NOT NULL,
+    task_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, role, status, priority)
+);
+
+-- counters are adjusted once per statement from its transition tables, so JPA saves,
+-- bulk updates and COPY imports keep them consistent within their own transaction
+CREATE OR REPLACE FUNCTION task_stats_apply() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_stats AS s (user_id, role, status, priority, task_count)
+        SELECT user_id, role, status, priority, sum(delta)
+        FROM (SELECT author AS user_id, 'AUTHOR' AS role, status, priority, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT executor, 'EXECUTOR', status, priority, 1 FROM new_rows) d
+        GROUP BY user_id, role, status, priority
+        ORDER BY user_id, role, status, priority
+        ON CONFLICT (user_id, role, status, priority) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO task_stats AS s (user_id, role, status, priority, task_count)
+        SELECT user_id, role, status, priority, sum(delta)
+        FROM (SELECT author AS user_id, 'AUTHOR' AS role, status, priority, -1 AS delta FROM old_rows
+              UNION ALL
+              SELECT executor, 'EXECUTOR', status, priority, -1 FROM old_rows) d
+        GROUP BY user_id, role, status, priority
+        ORDER BY user_id, role, status, priority
+        ON CONFLICT (user_id, role, status, priority) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    ELSE
+        INSERT INTO task_stats AS s (user_id, role, status, priority, task_count)
+        SELECT user_id, role, status, priority, sum(delta)
+        FROM (SELECT author AS user_id, 'AUTHOR' AS role, status, priority, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT executor, 'EXECUTOR', status, priority, 1 FROM new_rows
+              UNION ALL
+              SELECT author, 'AUTHOR', status, priority, -1 FROM old_rows
+              UNION ALL
+              SELECT executor, 'EXECUTOR', status, priority, -1 FROM old_rows) d
+        GROUP BY user_id, role, status, priority
+        HAVING sum(delta) <> 0
+        ORDER BY user_id, role, status, priority
+        ON CONFLICT (user_id, role, status, priority) DO UPDATE SET task_count = s.task_count + EXCLUDED.task_count;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER task_stats_insert
+    AFTER INSERT ON tasks REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_apply();
+
+CREATE TRIGGER task_stats_update
+    AFTER UPDATE ON tasks REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_apply();
+
+CREATE TRIGGER task_stats_delete
+    AFTER DELETE ON tasks REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION task_stats_apply();
+
+LOCK TABLE tasks IN SHARE MODE;
+
+INSERT INTO task_stats (user_id, role, status, priority, task_count)
+SELECT author, 'AUTHOR', status, priority, count(*) FROM tasks GROUP BY author, status, priority
+UNION ALL
+SELECT executor, 'EXECUTOR', status, priority, count(*) FROM tasks GROUP BY executor, status, priority;
+
+--rollback DROP TRIGGER IF EXISTS task_stats_delete ON tasks;
+--rollback DROP TRIGGER IF EXISTS task_stats_update ON tasks;
+--rollback DROP TRIGGER IF EXISTS task_stats_insert ON tasks;
+--rollback DROP FUNCTION IF EXISTS task_stats_apply();
+--rollback DROP TABLE IF EXISTS task_stats;
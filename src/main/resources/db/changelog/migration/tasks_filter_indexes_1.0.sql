@@ -0,0 +1,8 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+CREATE INDEX IF NOT EXISTS idx_tasks_author_status_priority ON tasks (author, status, priority);
+CREATE INDEX IF NOT EXISTS idx_tasks_executor_status_priority ON tasks (executor, status, priority);
+
+--rollback DROP INDEX IF EXISTS idx_tasks_author_status_priority;
+--rollback DROP INDEX IF EXISTS idx_tasks_executor_status_priority;
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+CREATE INDEX IF NOT EXISTS idx_tasks_author_priority_id ON tasks (author, priority, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_executor_priority_id ON tasks (executor, priority, id);
+
+--rollback DROP INDEX IF EXISTS idx_tasks_author_priority_id;
+--rollback DROP INDEX IF EXISTS idx_tasks_executor_priority_id;
@@ -0,0 +1,17 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+ALTER TABLE tasks
+    ADD COLUMN IF NOT EXISTS priority_rank SMALLINT
+        GENERATED ALWAYS AS (CASE priority WHEN 'HIGH' THEN 0 WHEN 'NORMAL' THEN 1 ELSE 2 END) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_author_priority_rank_id ON tasks (author, priority_rank, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_executor_priority_rank_id ON tasks (executor, priority_rank, id);
+DROP INDEX IF EXISTS idx_tasks_author_priority_id;
+DROP INDEX IF EXISTS idx_tasks_executor_priority_id;
+
+--rollback CREATE INDEX IF NOT EXISTS idx_tasks_author_priority_id ON tasks (author, priority, id);
+--rollback CREATE INDEX IF NOT EXISTS idx_tasks_executor_priority_id ON tasks (executor, priority, id);
+--rollback DROP INDEX IF EXISTS idx_tasks_author_priority_rank_id;
+--rollback DROP INDEX IF EXISTS idx_tasks_executor_priority_rank_id;
+--rollback ALTER TABLE tasks DROP COLUMN IF EXISTS priority_rank;
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE tasks
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+                             setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tasks_title_trgm ON tasks USING GIN (title gin_trgm_ops);
+
+--rollback DROP INDEX IF EXISTS idx_tasks_title_trgm;
+--rollback DROP INDEX IF EXISTS idx_tasks_search_vector;
+--rollback ALTER TABLE tasks DROP COLUMN IF EXISTS search_vector;
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset a.rogachev:1
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+--rollback ALTER TABLE tasks DROP COLUMN IF EXISTS version;
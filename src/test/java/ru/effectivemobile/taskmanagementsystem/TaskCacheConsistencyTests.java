@@ -0,0 +1,111 @@
+package ru.effectivemobile.taskmanagementsystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskServiceImpl;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.effectivemobile.taskmanagementsystem.config.CacheConfig.TASKS_CACHE;
+
+/**
+ * Запись кэша задач, положенная после изменения задачи, не используется для проверки прав и ETag.
+ * Запоздавшая запись моделируется прямой записью в кэш прежнего DTO задачи.
+ * Данные откатываются вместе с транзакцией теста.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class TaskCacheConsistencyTests {
+
+    private static final String USER_1_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String USER_2_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String USER_3_ID = "33333333-3333-3333-3333-333333333333";
+    private static final RequestPostProcessor USER_2 = authentication(
+            new JwtAuthentication(true, "user_2", Set.of(Role.ROLE_USER)));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, status, priority, author, executor)
+                VALUES (?, 'cached', 'cached', 'PENDING', 'NORMAL', ?::uuid, ?::uuid)
+                """, taskId, USER_2_ID, USER_1_ID);
+    }
+
+    @Test
+    void staleCachedTaskDoesNotGrantAccessToFormerAuthor() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(USER_2))
+                .andExpect(status().isOk());
+        TaskDto stale = taskService.getTaskDtoById(taskId);
+
+        jdbcTemplate.update("UPDATE tasks SET author = ?::uuid, version = version + 1 WHERE id = ?", USER_3_ID, taskId);
+        cacheManager.getCache(TASKS_CACHE).put(taskId, stale);
+
+        mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(USER_2))
+                .andExpect(status().isForbidden());
+        assertEquals("user_3", taskService.getTaskDtoById(taskId).getAuthor());
+    }
+
+    @Test
+    void staleCachedTaskDoesNotProduceNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(USER_2))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        TaskDto stale = taskService.getTaskDtoById(taskId);
+
+        mockMvc.perform(post("/api/v1/tasks/{id}/comments", taskId).with(USER_2)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"comment\":\"new comment\"}"))
+                .andExpect(status().isCreated());
+        cacheManager.getCache(TASKS_CACHE).put(taskId, stale);
+
+        String newETag = mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(USER_2)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+        cacheManager.getCache(TASKS_CACHE).put(taskId, stale);
+        mockMvc.perform(get("/api/v1/tasks/{id}/comments", taskId).with(USER_2)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, newETag));
+    }
+}
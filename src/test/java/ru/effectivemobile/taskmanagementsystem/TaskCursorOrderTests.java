@@ -0,0 +1,72 @@
+package ru.effectivemobile.taskmanagementsystem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Keyset-страницы задач упорядочены от высокого приоритета к низкому, а не по названию приоритета.
+ * Данные откатываются вместе с транзакцией теста.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@Transactional
+class TaskCursorOrderTests {
+
+    private static final String USER_1_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String USER_2_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String SEEDED_TITLE = "ordered";
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String priority : List.of("LOW", "NORMAL", "HIGH")) {
+            jdbcTemplate.update("""
+                    INSERT INTO tasks (id, title, description, status, priority, author, executor)
+                    SELECT gen_random_uuid(), ?, 'description ' || n, 'PENDING', ?, ?::uuid, ?::uuid
+                    FROM generate_series(1, 2) n""", SEEDED_TITLE, priority, USER_1_ID, USER_2_ID);
+        }
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthentication(true, "user_1", Set.of(Role.ROLE_USER, Role.ROLE_ADMIN)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cursorPagesAreOrderedFromHighToLowPriority() {
+        List<String> priorities = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageDto<TaskDto> page = taskService.getMyTasksAfterCursor(SEEDED_TITLE, null, null, null, null, after, 1);
+            page.content().forEach(task -> priorities.add(task.getPriority()));
+            after = page.nextCursor();
+        } while (after != null);
+
+        assertEquals(List.of("HIGH", "HIGH", "NORMAL", "NORMAL", "LOW", "LOW"), priorities);
+    }
+}
@@ -0,0 +1,87 @@
+package ru.effectivemobile.taskmanagementsystem;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+import ru.effectivemobile.taskmanagementsystem.sql.SqlStatementFilter;
+import ru.effectivemobile.taskmanagementsystem.sql.SqlStatementStats;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.effectivemobile.taskmanagementsystem.sql.SqlStatementBudget.assertStatementBudget;
+
+/**
+ * Бюджеты SQL-запросов эндпоинтов чтения задач. Учет запросов включен свойством {@code sql.inspector.enabled},
+ * а кэши отключены, чтобы бюджет отражал обращения к базе данных.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {"spring.cache.type=none", "sql.inspector.enabled=true"})
+@AutoConfigureMockMvc
+class TaskEndpointStatementBudgetTests {
+
+    private static final RequestPostProcessor USER = authentication(
+            new JwtAuthentication(true, "user_1", Set.of(Role.ROLE_USER, Role.ROLE_ADMIN)));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/myTasks").param("size", "1").with(USER))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+        taskId = page.get("content").get(0).get("id").asText();
+    }
+
+    @Test
+    void taskPageStaysWithinBudget() throws Exception {
+        MvcResult[] result = new MvcResult[1];
+        SqlStatementStats stats = assertStatementBudget(3, () ->
+                result[0] = mockMvc.perform(get("/api/v1/tasks/myTasks").param("size", "100").with(USER))
+                        .andExpect(status().isOk())
+                        .andReturn());
+        assertEquals(String.valueOf(stats.getStatementCount()),
+                result[0].getResponse().getHeader(SqlStatementFilter.STATEMENT_COUNT_HEADER));
+    }
+
+    @Test
+    void taskCursorPageStaysWithinBudget() throws Exception {
+        assertStatementBudget(2, () ->
+                mockMvc.perform(get("/api/v1/tasks/assignedTasks").param("limit", "100").with(USER))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void taskByIdStaysWithinBudget() throws Exception {
+        assertStatementBudget(3, () ->
+                mockMvc.perform(get("/api/v1/tasks/{id}", taskId).with(USER))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void taskCommentsStayWithinBudget() throws Exception {
+        assertStatementBudget(4, () ->
+                mockMvc.perform(get("/api/v1/tasks/{id}/comments", taskId).with(USER))
+                        .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,118 @@
+package ru.effectivemobile.taskmanagementsystem;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CursorPageDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskServiceImpl;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Количество запросов списков задач не зависит от размера страницы.
+ * Каждый тест засевает {@value #SEEDED_TASKS} задач, где user_1 — автор, и столько же, где он исполнитель,
+ * по {@value #COMMENTS_PER_TASK} комментария на задачу, поэтому страницы всех размеров заполнены полностью
+ * и без пакетной загрузки комментариев количество запросов росло бы с размером страницы.
+ * Данные откатываются вместе с транзакцией теста.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TaskListStatementCountTests {
+
+    private static final String USER_1_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String USER_2_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String SEEDED_TITLE = "seeded";
+    private static final int SEEDED_TASKS = 150;
+    private static final int COMMENTS_PER_TASK = 2;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        seedTasks(USER_1_ID, USER_2_ID);
+        seedTasks(USER_2_ID, USER_1_ID);
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthentication(true, "user_1", Set.of(Role.ROLE_USER, Role.ROLE_ADMIN)));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100})
+    void cursorTaskListUsesFixedStatementCount(int limit) {
+        CursorPageDto<TaskDto> myTasks = taskService.getMyTasksAfterCursor(SEEDED_TITLE, null, null, null, null, null, limit);
+        assertEquals(limit, myTasks.content().size());
+        assertAllHaveComments(myTasks.content());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        CursorPageDto<TaskDto> assignedTasks = taskService.getAssignedTasksAfterCursor(SEEDED_TITLE, null, null, null, null, null, limit);
+        assertEquals(limit, assignedTasks.content().size());
+        assertAllHaveComments(assignedTasks.content());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100})
+    void pagedTaskListUsesFixedStatementCount(int size) {
+        Page<TaskDto> myTasks = taskService.getMyTasksWithFilters(SEEDED_TITLE, null, null, null, null, PageRequest.of(0, size));
+        assertEquals(size, myTasks.getContent().size());
+        assertAllHaveComments(myTasks.getContent());
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        Page<TaskDto> assignedTasks = taskService.getAssignedTasksWithFilters(SEEDED_TITLE, null, null, null, null, PageRequest.of(0, size));
+        assertEquals(size, assignedTasks.getContent().size());
+        assertAllHaveComments(assignedTasks.getContent());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private void seedTasks(String authorId, String executorId) {
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, status, priority, author, executor)
+                SELECT gen_random_uuid(), ?, 'description ' || n, 'PENDING', 'HIGH', ?::uuid, ?::uuid
+                FROM generate_series(1, ?) n""", SEEDED_TITLE, authorId, executorId, SEEDED_TASKS);
+        jdbcTemplate.update("""
+                INSERT INTO task_comments (task_id, comment)
+                SELECT t.id, 'comment ' || n
+                FROM tasks t CROSS JOIN generate_series(1, ?) n
+                WHERE t.author = ?::uuid AND t.title = ?""", COMMENTS_PER_TASK, authorId, SEEDED_TITLE);
+    }
+
+    private static void assertAllHaveComments(List<TaskDto> tasks) {
+        tasks.forEach(task -> assertEquals(COMMENTS_PER_TASK, task.getComments().size(), task.getTitle()));
+    }
+}
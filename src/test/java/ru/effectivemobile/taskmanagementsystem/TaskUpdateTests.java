@@ -0,0 +1,166 @@
+package ru.effectivemobile.taskmanagementsystem;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+import ru.effectivemobile.taskmanagementsystem.util.ETagUtil;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверяет права и условные запросы при обновлении задачи. Тест не транзакционный, чтобы конкурентные
+ * обновления выполнялись в разных транзакциях, поэтому задача удаляется после каждого теста.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+class TaskUpdateTests {
+
+    private static final String USER_2_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String USER_3_ID = "33333333-3333-3333-3333-333333333333";
+    private static final RequestPostProcessor USER_2 = authentication(
+            new JwtAuthentication(true, "user_2", Set.of(Role.ROLE_USER)));
+    private static final RequestPostProcessor USER_3 = authentication(
+            new JwtAuthentication(true, "user_3", Set.of(Role.ROLE_USER, Role.ROLE_ADMIN)));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, status, priority, author, executor)
+                VALUES (?, 'updated', 'updated', 'PENDING', 'NORMAL', ?::uuid, ?::uuid)
+                """, taskId, USER_3_ID, USER_2_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_comments WHERE task_id = ?", taskId);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", taskId);
+    }
+
+    @Test
+    void updateByExecutorWhoIsNeitherAuthorNorAdminIsForbidden() throws Exception {
+        long version = currentVersion();
+
+        mockMvc.perform(update(USER_2, "IN_PROGRESS", null))
+                .andExpect(status().isForbidden());
+
+        assertEquals(version, currentVersion());
+        assertEquals(0, applicationEvents.stream(TaskChangeEvent.class).count());
+    }
+
+    @Test
+    void updateWithoutChangesKeepsVersionAndPublishesNothing() throws Exception {
+        long version = currentVersion();
+
+        mockMvc.perform(update(USER_3, "PENDING", version))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.toETag(version)));
+
+        assertEquals(version, currentVersion());
+        assertEquals(0, applicationEvents.stream(TaskChangeEvent.class).count());
+    }
+
+    @Test
+    void updateWithStaleIfMatchIsRejected() throws Exception {
+        long version = currentVersion();
+        mockMvc.perform(update(USER_3, "IN_PROGRESS", version))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.toETag(version + 1)));
+
+        mockMvc.perform(update(USER_3, "DONE", version))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals(version + 1, currentVersion());
+        assertEquals("IN_PROGRESS", jdbcTemplate.queryForObject(
+                "SELECT status FROM tasks WHERE id = ?", String.class, taskId));
+    }
+
+    @Test
+    void concurrentUpdatesWithSameIfMatchApplyOnlyOnce() throws Exception {
+        long version = currentVersion();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Integer>> results = List.of("IN_PROGRESS", "DONE").stream()
+                    .map(newStatus -> executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(update(USER_3, newStatus, version)).andReturn().getResponse().getStatus();
+                    }))
+                    .toList();
+            start.countDown();
+            List<Integer> statuses = results.stream()
+                    .map(result -> {
+                        try {
+                            return result.get(30, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .sorted()
+                    .toList();
+
+            assertEquals(List.of(201, 412), statuses);
+            assertEquals(version + 1, currentVersion());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MockHttpServletRequestBuilder update(RequestPostProcessor user, String newStatus, Long ifMatchVersion) {
+        MockHttpServletRequestBuilder request = put("/api/v1/tasks/{id}", taskId).with(user)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title":"updated","description":"updated","status":"%s","priority":"NORMAL",
+                         "author":"user_3","executor":"user_2"}
+                        """.formatted(newStatus));
+        if (ifMatchVersion != null) {
+            request.header(HttpHeaders.IF_MATCH, ETagUtil.toETag(ifMatchVersion));
+        }
+        return request;
+    }
+
+    private long currentVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+}
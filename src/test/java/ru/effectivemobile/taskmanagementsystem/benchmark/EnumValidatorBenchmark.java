@@ -0,0 +1,47 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.util.validation.EnumValidation;
+import ru.effectivemobile.taskmanagementsystem.util.validation.EnumValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет {@link EnumValidator#isValid} для поля статуса {@link TaskDto}:
+ * первое и последнее значение перечисления и недопустимое значение.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumValidatorBenchmark {
+
+    @Param({"DONE", "PENDING", "UNKNOWN"})
+    private String value;
+
+    private EnumValidator validator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        validator = new EnumValidator();
+        validator.initialize(TaskDto.class.getDeclaredField("status").getAnnotation(EnumValidation.class));
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(value, null);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import ru.effectivemobile.taskmanagementsystem.security.JwtFilter;
+import ru.effectivemobile.taskmanagementsystem.security.JwtService;
+import ru.effectivemobile.taskmanagementsystem.security.TokenAuthenticationCache;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет {@link JwtFilter#doFilter} для токена из cookie {@code JWT}, из заголовка Authorization
+ * и для запроса без токена. Токен уже находится в {@link TokenAuthenticationCache}, поэтому измеряется
+ * извлечение токена, поиск в кэше и установка аутентификации, а не проверка подписи.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtServiceFixture.create();
+        String token = jwtService.generateToken(JwtServiceFixture.user());
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtService, new SimpleMeterRegistry(), 10_000);
+        cache.authenticate(token);
+        jwtFilter = new JwtFilter(cache);
+
+        cookieRequest = new MockHttpServletRequest("GET", "/api/v1/tasks/myTasks");
+        cookieRequest.setCookies(new Cookie("RefreshToken", "refresh"), new Cookie("JWT", token));
+        headerRequest = new MockHttpServletRequest("GET", "/api/v1/tasks/myTasks");
+        headerRequest.addHeader("Authorization", "Bearer " + token);
+        anonymousRequest = new MockHttpServletRequest("GET", "/auth");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object tokenFromCookie() throws ServletException, IOException {
+        return filter(cookieRequest);
+    }
+
+    @Benchmark
+    public Object tokenFromHeader() throws ServletException, IOException {
+        return filter(headerRequest);
+    }
+
+    @Benchmark
+    public Object noToken() throws ServletException, IOException {
+        return filter(anonymousRequest);
+    }
+
+    private Object filter(MockHttpServletRequest request) throws ServletException, IOException {
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
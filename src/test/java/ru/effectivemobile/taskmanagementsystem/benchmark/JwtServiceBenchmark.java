@@ -0,0 +1,59 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.JwtService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет операции {@link JwtService}: выпуск токена доступа, проверку его подписи
+ * и построение {@link JwtAuthentication} из уже разобранных claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceFixture.create();
+        user = JwtServiceFixture.user();
+        token = jwtService.generateToken(user);
+        claims = jwtService.getAccessClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.validateAccessToken(token);
+    }
+
+    @Benchmark
+    public JwtAuthentication generate() {
+        return jwtService.generate(claims);
+    }
+}
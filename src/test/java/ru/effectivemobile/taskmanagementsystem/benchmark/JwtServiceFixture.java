@@ -0,0 +1,45 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.security.JwtService;
+import ru.effectivemobile.taskmanagementsystem.security.Role;
+
+import java.util.Set;
+
+/**
+ * Общая настройка {@link JwtService} для бенчмарков токенов без контекста Spring.
+ */
+class JwtServiceFixture {
+
+    /**
+     * Секрет подписи токенов доступа в кодировке Base64.
+     */
+    static final String SECRET = "jOu4scZUwu34BLGxZQWXAakYRVb62dyRi8tMC66wAlA=";
+
+    /**
+     * Создает и инициализирует {@link JwtService} с секретом {@link #SECRET} и временем жизни токенов в один час.
+     *
+     * @return {@link JwtService}.
+     */
+    static JwtService create() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenLife", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenLifetime", 3600L);
+        jwtService.init();
+        return jwtService;
+    }
+
+    /**
+     * Возвращает пользователя с ролями администратора и пользователя, для которого выпускаются токены.
+     *
+     * @return {@link User}.
+     */
+    static User user() {
+        return User.builder()
+                .username("user_1")
+                .roles(Set.of(Role.ROLE_ADMIN, Role.ROLE_USER))
+                .build();
+    }
+}
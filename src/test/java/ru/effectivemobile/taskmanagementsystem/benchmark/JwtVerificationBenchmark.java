@@ -0,0 +1,67 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.effectivemobile.taskmanagementsystem.security.JwtAuthentication;
+import ru.effectivemobile.taskmanagementsystem.security.JwtService;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает стоимость проверки токена доступа на один запрос:
+ * прежний путь фильтра (ключ и парсер создаются заново, подпись проверяется дважды)
+ * и {@link JwtService#authenticate(String)} (ключ и парсер созданы при старте, токен разбирается один раз).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceFixture.create();
+        token = jwtService.generateToken(JwtServiceFixture.user());
+    }
+
+    /**
+     * Прежний путь {@code JwtFilter}: validateAccessToken, затем getAccessClaims и generate,
+     * каждый разбор с новым ключом и новым парсером.
+     */
+    @Benchmark
+    public JwtAuthentication validateThenParse() {
+        Jwts.parserBuilder().setSigningKey(legacySignKey()).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(legacySignKey()).build().parseClaimsJws(token).getBody();
+        return jwtService.generate(claims);
+    }
+
+    /**
+     * Текущий путь {@code JwtFilter}: один разбор общим парсером.
+     */
+    @Benchmark
+    public JwtAuthentication parseOnce() {
+        return jwtService.authenticate(token);
+    }
+
+    private static Key legacySignKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtServiceFixture.SECRET));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.effectivemobile.taskmanagementsystem.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Priority;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Task;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.User;
+import ru.effectivemobile.taskmanagementsystem.service.impl.CommentServiceImpl;
+import ru.effectivemobile.taskmanagementsystem.service.impl.TaskServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет преобразование задач в DTO: {@link TaskServiceImpl#taskToTaskDto(Task)}
+ * и {@link TaskServiceImpl#taskListToDtoList(List)}.
+ * Комментарии возвращаются заранее подготовленной картой, поэтому измеряется только отображение без базы данных.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private TaskServiceImpl taskService;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder().id(UUID.randomUUID()).username("user_1").build();
+        User executor = User.builder().id(UUID.randomUUID()).username("user_2").build();
+        tasks = new ArrayList<>(size);
+        Map<UUID, List<String>> comments = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Task task = Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Task " + i)
+                    .description("Description of task " + i)
+                    .status(Status.values()[i % Status.values().length])
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .author(author)
+                    .executor(executor)
+                    .version((long) i)
+                    .build();
+            tasks.add(task);
+            comments.put(task.getId(), List.of("First comment " + i, "Second comment " + i));
+        }
+        CommentServiceImpl commentService = new CommentServiceImpl(null, null, null, null) {
+            @Override
+            public Map<UUID, List<String>> getCommentTextsByTaskIds(Collection<UUID> taskIds) {
+                return comments;
+            }
+        };
+        taskService = new TaskServiceImpl(null, null, null, commentService, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public TaskDto taskToTaskDto() {
+        return taskService.taskToTaskDto(tasks.get(0));
+    }
+
+    @Benchmark
+    public List<TaskDto> taskListToDtoList() {
+        return taskService.taskListToDtoList(tasks);
+    }
+}
@@ -0,0 +1,205 @@
+package ru.effectivemobile.taskmanagementsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Генератор HTTP-нагрузки с замкнутой моделью: каждый из {@code load.concurrency} виртуальных клиентов
+ * держит собственное соединение и отправляет следующий запрос сразу после ответа на предыдущий.
+ * Клиенты реализованы цепочками асинхронных запросов, поэтому 10 000 соединений не требуют 10 000 потоков.
+ * Результат (пропускная способность и перцентили задержки) печатается и записывается в JSON-файл {@code load.result}.
+ * <p>
+ * Сравнение режимов выполнения: приложение запускается поочередно с профилями {@code dev} и {@code dev,virtual-threads}
+ * (для платформенных потоков с тем же {@code --server.tomcat.accept-count=1000}),
+ * затем для каждого запуска выполняется {@code mvn -Pload -Dload.label=<режим> verify}.
+ * Для 10 000 соединений лимит открытых файлов ({@code ulimit -n}) должен быть выше 10 000 у обоих процессов.
+ * <p>
+ * Генератор также используется сценариями {@link TaskApiPerformanceIT}: запрос строится для каждого клиента
+ * отдельно, а начало и конец измерения сообщаются {@link MeasurementListener}.
+ */
+public final class HttpLoadGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient client;
+    private final IntFunction<HttpRequest> requests;
+    private final long[] latencies;
+    private final AtomicInteger samples = new AtomicInteger();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    /**
+     * @param client     HTTP-клиент.
+     * @param requests   фабрика запросов по номеру клиента; вызывается перед каждым запросом.
+     * @param maxSamples максимальное количество сохраняемых замеров задержки.
+     */
+    HttpLoadGenerator(HttpClient client, IntFunction<HttpRequest> requests, int maxSamples) {
+        this.client = client;
+        this.requests = requests;
+        this.latencies = new long[maxSamples];
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080");
+        String path = System.getProperty("load.path", "/api/v1/tasks/myTasks");
+        String username = System.getProperty("load.username", "user_1");
+        String password = System.getProperty("load.password", username);
+        String label = System.getProperty("load.label", "default");
+        int concurrency = Integer.getInteger("load.concurrency", 10_000);
+        Duration rampUp = Duration.parse(System.getProperty("load.rampUp", "PT5S"));
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        Duration timeout = Duration.parse(System.getProperty("load.timeout", "PT30S"));
+        Path result = Path.of(System.getProperty("load.result", "target/load-result.json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+        String token = login(client, baseUrl, username, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(timeout)
+                .GET()
+                .build();
+
+        HttpLoadGenerator generator = new HttpLoadGenerator(client, clientIndex -> request,
+                Integer.getInteger("load.maxSamples", 5_000_000));
+        LoadResult loadResult = generator.run(label, path, concurrency, rampUp, warmup, duration, MeasurementListener.NONE);
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(result.toFile(), loadResult);
+        System.out.println(OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(loadResult));
+        System.exit(0);
+    }
+
+    /**
+     * Получает токен доступа через {@code POST /auth}.
+     */
+    static String login(HttpClient client, String baseUrl, String username, String password)
+            throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.writeValueAsString(new Credentials(username, password));
+        HttpRequest authRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/auth"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(authRequest, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode json = OBJECT_MAPPER.readTree(response.body());
+        return json.get("token").asText();
+    }
+
+    /**
+     * Запускает клиентов равномерно в течение {@code rampUp}, прогревает систему и измеряет нагрузку.
+     */
+    LoadResult run(String label, String path, int concurrency, Duration rampUp, Duration warmup, Duration duration,
+                   MeasurementListener listener) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long stepNanos = rampUp.toNanos() / Math.max(1, concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            int clientIndex = i;
+            scheduler.schedule(() -> next(finished, clientIndex), stepNanos * i, TimeUnit.NANOSECONDS);
+        }
+        Thread.sleep(rampUp.plus(warmup).toMillis());
+        listener.started();
+        recording = true;
+        long start = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        recording = false;
+        long elapsed = System.nanoTime() - start;
+        listener.finished();
+        stopped = true;
+        finished.await(1, TimeUnit.MINUTES);
+        scheduler.shutdownNow();
+
+        int count = Math.min(samples.get(), latencies.length);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double seconds = elapsed / 1e9;
+        return new LoadResult(label, path, concurrency, duration.toSeconds(),
+                successes.sum(), errors.sum(), successes.sum() / seconds,
+                percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                count == 0 ? 0 : sorted[count - 1] / 1e6);
+    }
+
+    /**
+     * Отправляет следующий запрос клиента; после ответа клиент сразу отправляет новый, пока нагрузка не остановлена.
+     */
+    private void next(CountDownLatch finished, int clientIndex) {
+        if (stopped) {
+            finished.countDown();
+            return;
+        }
+        long start = System.nanoTime();
+        client.sendAsync(requests.apply(clientIndex), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (recording) {
+                        if (error == null && response.statusCode() / 100 == 2) {
+                            successes.increment();
+                            int index = samples.getAndIncrement();
+                            if (index < latencies.length) {
+                                latencies[index] = System.nanoTime() - start;
+                            }
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                    next(finished, clientIndex);
+                });
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    record Credentials(String username, String password) {
+    }
+
+    /**
+     * Получает уведомления о начале и конце измерения, например чтобы снять счетчики приложения за тот же интервал.
+     */
+    interface MeasurementListener {
+
+        MeasurementListener NONE = new MeasurementListener() {
+        };
+
+        default void started() {
+        }
+
+        default void finished() {
+        }
+    }
+
+    /**
+     * Итог прогона нагрузки.
+     */
+    public record LoadResult(String label, String path, int concurrency, long durationSeconds,
+                             long requests, long errors, double throughputPerSecond,
+                             double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,340 @@
+package ru.effectivemobile.taskmanagementsystem.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.CommentDto;
+import ru.effectivemobile.taskmanagementsystem.domain.dto.TaskDto;
+import ru.effectivemobile.taskmanagementsystem.domain.entity.Status;
+import ru.effectivemobile.taskmanagementsystem.sql.InspectingDataSource;
+
+import javax.sql.DataSource;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Сквозной нагрузочный прогон HTTP-API в процессе: приложение запускается на случайном порту,
+ * база данных заполняется пользователями {@code perf_user_<n>} и их задачами, затем {@link HttpLoadGenerator}
+ * по очереди выполняет сценарии {@code login}, {@code list}, {@code get}, {@code update} и {@code comment}.
+ * Каждый клиент работает от имени своего пользователя и с его задачами. Число клиентов сценария задается
+ * свойством {@code perf.<сценарий>.concurrency}, по умолчанию {@code perf.concurrency}.
+ * <p>
+ * Для каждого сценария сообщаются пропускная способность, перцентили задержки и количество SQL-запросов
+ * на HTTP-запрос за интервал измерения; результат записывается в JSON-файл {@code perf.result}. Запросы считаются
+ * на уровне JDBC через {@link InspectingDataSource} во всех потоках, поэтому учитываются и запросы {@code JdbcTemplate}.
+ * Тест падает, если сценарий нарушает пороги {@code perf.<сценарий>.minThroughput},
+ * {@code perf.<сценарий>.maxP99Millis}, {@code perf.<сценарий>.maxStatementsPerRequest} или {@code perf.maxErrorRate}.
+ * <p>
+ * Запуск: {@code mvn -Pperf verify}. По умолчанию база данных - контейнер PostgreSQL;
+ * с {@code -Dperf.container=false} используется база из переменных окружения {@code TMS_*}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "sql.inspector.enabled=true")
+class TaskApiPerformanceIT {
+
+    private static final String USER_PREFIX = "perf_user_";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Status[] STATUSES = Status.values();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void scenariosMeetThresholds() throws Exception {
+        int users = Integer.getInteger("perf.users", 50);
+        int tasks = Integer.getInteger("perf.tasks", 20_000);
+        int concurrency = Integer.getInteger("perf.concurrency", 16);
+        Duration rampUp = Duration.parse(System.getProperty("perf.rampUp", "PT1S"));
+        Duration warmup = Duration.parse(System.getProperty("perf.warmup", "PT5S"));
+        Duration duration = Duration.parse(System.getProperty("perf.duration", "PT15S"));
+        String password = System.getProperty("perf.password", "perf_password");
+        List<String> scenarios = List.of(System.getProperty("perf.scenarios", "login,list,get,update,comment").split(","));
+        Path resultFile = Path.of(System.getProperty("perf.result", "target/perf-result.json"));
+
+        seed(users, tasks, password);
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        int maxConcurrency = scenarios.stream().mapToInt(scenario -> concurrency(scenario.trim(), concurrency)).max().orElse(0);
+        List<PerfClient> clients = createClients(client, baseUrl, users, maxConcurrency, password);
+        InspectingDataSource inspectingDataSource = dataSource.unwrap(InspectingDataSource.class);
+
+        List<ScenarioResult> results = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        for (String scenario : scenarios) {
+            String name = scenario.trim();
+            long[] statements = new long[2];
+            HttpLoadGenerator generator = new HttpLoadGenerator(client, requests(name, baseUrl, clients, password), 2_000_000);
+            HttpLoadGenerator.LoadResult load = generator.run(name, name, concurrency(name, concurrency), rampUp, warmup, duration,
+                    new HttpLoadGenerator.MeasurementListener() {
+                        @Override
+                        public void started() {
+                            statements[0] = inspectingDataSource.getExecutedStatementCount();
+                        }
+
+                        @Override
+                        public void finished() {
+                            statements[1] = inspectingDataSource.getExecutedStatementCount();
+                        }
+                    });
+            long handled = load.requests() + load.errors();
+            double statementsPerRequest = handled == 0 ? 0 : (double) (statements[1] - statements[0]) / handled;
+            List<String> scenarioViolations = checkThresholds(name, load, statementsPerRequest);
+            results.add(new ScenarioResult(name, load, statementsPerRequest, scenarioViolations));
+            violations.addAll(scenarioViolations);
+        }
+
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(resultFile.toFile(), results);
+        System.out.println(OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(results));
+        assertTrue(violations.isEmpty(), String.join(System.lineSeparator(), violations));
+    }
+
+    /**
+     * Создает недостающих пользователей {@code perf_user_1..users} с ролью {@code ROLE_USER} и общим паролем
+     * и дополняет их задачи до {@code tasks}, по одному комментарию на задачу. Повторный запуск на той же базе
+     * только обновляет пароль. Все строки создаются несколькими запросами {@code INSERT ... SELECT}.
+     */
+    private void seed(int users, int tasks, String password) {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, username, password)
+                SELECT gen_random_uuid(), ? || i, ? FROM generate_series(1, ?) i
+                ON CONFLICT (username) DO UPDATE SET password = EXCLUDED.password
+                """, USER_PREFIX, passwordEncoder.encode(password), users);
+        jdbcTemplate.update("""
+                INSERT INTO user_roles (user_id, role)
+                SELECT id, 'ROLE_USER' FROM users WHERE starts_with(username, ?)
+                ON CONFLICT DO NOTHING
+                """, USER_PREFIX);
+        Long existing = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM tasks t JOIN users a ON a.id = t.author WHERE starts_with(a.username, ?)
+                """, Long.class, USER_PREFIX);
+        if (existing != null && existing < tasks) {
+            jdbcTemplate.update("""
+                    WITH inserted AS (
+                        INSERT INTO tasks (id, title, description, status, priority, author, executor)
+                        SELECT gen_random_uuid(), 'Perf task ' || g.i, 'Synthetic task ' || g.i,
+                               (ARRAY ['PENDING', 'IN_PROGRESS', 'DONE'])[1 + g.i % 3],
+                               (ARRAY ['LOW', 'NORMAL', 'HIGH'])[1 + (g.i / 3) % 3],
+                               a.id, e.id
+                        FROM generate_series(?, ?) AS g(i)
+                        JOIN users a ON a.username = ? || (1 + g.i % ?)
+                        JOIN users e ON e.username = ? || (1 + (g.i * 7) % ?)
+                        RETURNING id)
+                    INSERT INTO task_comments (task_id, comment)
+                    SELECT id, 'Synthetic comment' FROM inserted
+                    """, existing + 1, (long) tasks, USER_PREFIX, users, USER_PREFIX, users);
+        }
+        jdbcTemplate.execute("ANALYZE tasks");
+        jdbcTemplate.execute("ANALYZE task_comments");
+    }
+
+    /**
+     * Создает клиентов нагрузки: клиент {@code i} работает от имени {@code perf_user_<1 + i % users>}
+     * с токеном, полученным через {@code POST /auth}, и задачами, автором которых является этот пользователь.
+     */
+    private List<PerfClient> createClients(HttpClient client, String baseUrl, int users, int concurrency, String password)
+            throws Exception {
+        Map<String, PerfClient> byUser = new HashMap<>();
+        List<PerfClient> clients = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String username = USER_PREFIX + (1 + i % users);
+            PerfClient perfClient = byUser.get(username);
+            if (perfClient == null) {
+                List<TaskDto> ownTasks = jdbcTemplate.query("""
+                                SELECT t.id, t.title, t.description, t.priority, a.username AS author, e.username AS executor
+                                FROM tasks t
+                                JOIN users a ON a.id = t.author
+                                JOIN users e ON e.id = t.executor
+                                WHERE a.username = ?
+                                ORDER BY t.id
+                                LIMIT 200
+                                """,
+                        (rs, rowNum) -> new TaskDto(rs.getObject("id", UUID.class), rs.getString("title"),
+                                rs.getString("description"), null, rs.getString("priority"), null,
+                                rs.getString("author"), rs.getString("executor"), null),
+                        username);
+                if (ownTasks.isEmpty()) {
+                    throw new IllegalStateException("User " + username + " has no tasks, increase perf.tasks");
+                }
+                perfClient = new PerfClient(username, HttpLoadGenerator.login(client, baseUrl, username, password), ownTasks);
+                byUser.put(username, perfClient);
+            }
+            clients.add(perfClient);
+        }
+        return clients;
+    }
+
+    /**
+     * Возвращает фабрику запросов сценария по номеру клиента.
+     */
+    private static IntFunction<HttpRequest> requests(String scenario, String baseUrl, List<PerfClient> clients,
+                                                     String password) throws JsonProcessingException {
+        String tasksUrl = baseUrl + "/api/v1/tasks";
+        return switch (scenario) {
+            case "login" -> {
+                List<String> bodies = new ArrayList<>();
+                for (PerfClient perfClient : clients) {
+                    bodies.add(OBJECT_MAPPER.writeValueAsString(
+                            new HttpLoadGenerator.Credentials(perfClient.username(), password)));
+                }
+                yield clientIndex -> HttpRequest.newBuilder(URI.create(baseUrl + "/auth"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(bodies.get(clientIndex)))
+                        .build();
+            }
+            case "list" -> clientIndex -> authorized(clients.get(clientIndex),
+                    tasksUrl + "/myTasks?size=20&page=" + ThreadLocalRandom.current().nextInt(5))
+                    .GET()
+                    .build();
+            case "get" -> clientIndex -> {
+                PerfClient perfClient = clients.get(clientIndex);
+                return authorized(perfClient, tasksUrl + "/" + perfClient.randomTask().getId())
+                        .GET()
+                        .build();
+            };
+            case "update" -> clientIndex -> {
+                PerfClient perfClient = clients.get(clientIndex);
+                TaskDto task = perfClient.randomTask();
+                TaskDto update = new TaskDto(task.getId(), task.getTitle(), task.getDescription(),
+                        STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)].name(), task.getPriority(),
+                        null, task.getAuthor(), task.getExecutor(), null);
+                return authorized(perfClient, tasksUrl + "/" + task.getId())
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(toJson(update)))
+                        .build();
+            };
+            case "comment" -> {
+                String body = OBJECT_MAPPER.writeValueAsString(new CommentDto("Performance test comment"));
+                yield clientIndex -> {
+                    PerfClient perfClient = clients.get(clientIndex);
+                    return authorized(perfClient, tasksUrl + "/" + perfClient.randomTask().getId() + "/comments")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                };
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+
+    private static HttpRequest.Builder authorized(PerfClient perfClient, String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + perfClient.token())
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Сравнивает результат сценария с порогами из системных свойств; не заданный порог не проверяется.
+     */
+    private static List<String> checkThresholds(String scenario, HttpLoadGenerator.LoadResult load,
+                                                double statementsPerRequest) {
+        List<String> violations = new ArrayList<>();
+        long handled = load.requests() + load.errors();
+        if (load.requests() == 0) {
+            violations.add(scenario + ": no successful requests");
+        }
+        double errorRate = handled == 0 ? 0 : (double) load.errors() / handled;
+        double maxErrorRate = doubleProperty("perf.maxErrorRate", 0.01);
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("%s: error rate %.4f > %.4f", scenario, errorRate, maxErrorRate));
+        }
+        double minThroughput = doubleProperty("perf." + scenario + ".minThroughput", 0);
+        if (load.throughputPerSecond() < minThroughput) {
+            violations.add(String.format("%s: throughput %.1f/s < %.1f/s", scenario, load.throughputPerSecond(), minThroughput));
+        }
+        double maxP99Millis = doubleProperty("perf." + scenario + ".maxP99Millis", Double.MAX_VALUE);
+        if (load.p99Millis() > maxP99Millis) {
+            violations.add(String.format("%s: p99 %.1f ms > %.1f ms", scenario, load.p99Millis(), maxP99Millis));
+        }
+        double maxStatements = doubleProperty("perf." + scenario + ".maxStatementsPerRequest", Double.MAX_VALUE);
+        if (statementsPerRequest > maxStatements) {
+            violations.add(String.format("%s: %.2f SQL statements per request > %.2f", scenario, statementsPerRequest, maxStatements));
+        }
+        return violations;
+    }
+
+    private static int concurrency(String scenario, int defaultConcurrency) {
+        return Integer.getInteger("perf." + scenario + ".concurrency", defaultConcurrency);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return (value == null || value.isBlank()) ? defaultValue : Double.parseDouble(value);
+    }
+
+    /**
+     * Клиент нагрузки: пользователь, его токен доступа и задачи, автором которых он является.
+     */
+    private record PerfClient(String username, String token, List<TaskDto> tasks) {
+
+        TaskDto randomTask() {
+            return tasks.get(ThreadLocalRandom.current().nextInt(tasks.size()));
+        }
+    }
+
+    /**
+     * Итог сценария: результат генератора нагрузки, SQL-запросы на HTTP-запрос и нарушенные пороги.
+     */
+    public record ScenarioResult(String scenario, HttpLoadGenerator.LoadResult load,
+                                 double statementsPerRequest, List<String> violations) {
+    }
+
+    /**
+     * Контейнер PostgreSQL для прогона; отключается свойством {@code perf.container=false}.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class PerfDatabaseConfiguration {
+
+        @Bean
+        @ServiceConnection
+        @ConditionalOnProperty(name = "perf.container", havingValue = "true", matchIfMissing = true)
+        PostgreSQLContainer<?> postgresContainer() {
+            return new PostgreSQLContainer<>(DockerImageName.parse("postgres:latest"));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package ru.effectivemobile.taskmanagementsystem.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeEvent;
+import ru.effectivemobile.taskmanagementsystem.domain.event.TaskChangeType;
+import ru.effectivemobile.taskmanagementsystem.exception.ServiceOverloadedException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Проверяет, что клиент, не принимающий данные, не останавливает доставку событий остальным подписчикам,
+ * а количество потоков, заменяющих зависшие записи, ограничено.
+ */
+class TaskStreamServiceImplTests {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(1);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final CountDownLatch slowSendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowSend = new CountDownLatch(1);
+    private final BlockingQueue<SseEmitter.SseEventBuilder> delivered = new LinkedBlockingQueue<>();
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserServiceImpl userService = Mockito.mock(UserServiceImpl.class);
+    private TaskStreamServiceImpl taskStreamService;
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowSend.countDown();
+        taskStreamService.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberIsDisconnectedAndOthersKeepReceivingEvents() throws Exception {
+        taskStreamService = createService(1);
+        emitters.add(slowEmitter());
+        emitters.add(recordingEmitter());
+        Mockito.when(userService.getUsernameOfCurrentUser()).thenReturn("slow", "fast");
+
+        taskStreamService.subscribe();
+        assertTrue(slowSendStarted.await(AWAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        taskStreamService.subscribe();
+        assertNull(delivered.poll(100, TimeUnit.MILLISECONDS));
+
+        awaitStalledSubscribers(1);
+        assertNotNull(delivered.poll(AWAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+
+        taskStreamService.publish(new TaskChangeEvent(TaskChangeType.UPDATED, UUID.randomUUID(), 1L, Set.of("slow", "fast")));
+        assertNotNull(delivered.poll(AWAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("tasks.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void subscriptionsAreRejectedWhileStalledSendCannotBeReplaced() throws Exception {
+        taskStreamService = createService(0);
+        emitters.add(slowEmitter());
+        emitters.add(recordingEmitter());
+        Mockito.when(userService.getUsernameOfCurrentUser()).thenReturn("slow", "fast");
+
+        taskStreamService.subscribe();
+        assertTrue(slowSendStarted.await(AWAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        awaitStalledSubscribers(1);
+        assertThrows(ServiceOverloadedException.class, () -> taskStreamService.subscribe());
+
+        releaseSlowSend.countDown();
+        await(() -> {
+            try {
+                taskStreamService.subscribe();
+                return true;
+            } catch (ServiceOverloadedException e) {
+                return false;
+            }
+        });
+        assertNotNull(delivered.poll(AWAIT_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+    }
+
+    private TaskStreamServiceImpl createService(int maxExtraThreads) {
+        return new TaskStreamServiceImpl(userService, new ObjectMapper(), meterRegistry,
+                1, 32, 100, Duration.ofMinutes(1), Duration.ofSeconds(5), SEND_TIMEOUT, maxExtraThreads) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitters.removeFirst();
+            }
+        };
+    }
+
+    /**
+     * Эмиттер, запись в который блокируется до {@link #releaseSlowSend}.
+     */
+    private SseEmitter slowEmitter() {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                slowSendStarted.countDown();
+                try {
+                    releaseSlowSend.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    /**
+     * Эмиттер, сохраняющий отправленные события в {@link #delivered}.
+     */
+    private SseEmitter recordingEmitter() {
+        return new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.add(builder);
+            }
+        };
+    }
+
+    /**
+     * Запускает проверку зависших отправок, пока количество отключенных подписчиков не достигнет ожидаемого.
+     */
+    private void awaitStalledSubscribers(int expected) {
+        await(() -> {
+            taskStreamService.disconnectStalledSubscribers();
+            return meterRegistry.get("tasks.stream.stalled").counter().count() >= expected;
+        });
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within " + AWAIT_TIMEOUT);
+            Thread.yield();
+        }
+    }
+}
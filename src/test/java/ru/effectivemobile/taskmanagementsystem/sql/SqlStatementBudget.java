@@ -0,0 +1,85 @@
+package ru.effectivemobile.taskmanagementsystem.sql;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Проверки бюджета SQL-запросов для тестов.
+ * Считает JDBC-запросы, выполненные действием в текущем потоке (включая вызовы MockMvc, проходящие через
+ * {@link SqlStatementFilter}), и падает, если запросов больше бюджета или одна форма запроса повторяется
+ * больше допустимого — типичный признак проблемы N+1. Требует, чтобы источник данных был обернут
+ * в {@link InspectingDataSource}, то есть чтобы было задано свойство {@code sql.inspector.enabled=true}.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * Выполняет действие и проверяет, что оно выполнило не больше {@code maxStatements} запросов,
+     * а каждая форма запроса выполнилась не больше одного раза.
+     *
+     * @param maxStatements допустимое количество запросов.
+     * @param action        проверяемое действие.
+     * @return статистика запросов действия.
+     */
+    public static SqlStatementStats assertStatementBudget(int maxStatements, Action action) throws Exception {
+        return assertStatementBudget(maxStatements, 1, action);
+    }
+
+    /**
+     * Выполняет действие и проверяет количество запросов и повторов одной формы запроса.
+     *
+     * @param maxStatements допустимое количество запросов.
+     * @param maxRepeats    допустимое количество выполнений одной формы запроса.
+     * @param action        проверяемое действие.
+     * @return статистика запросов действия.
+     */
+    public static SqlStatementStats assertStatementBudget(int maxStatements, int maxRepeats, Action action)
+            throws Exception {
+        SqlStatementStats stats = record(action);
+        if (stats.getStatementCount() > maxStatements) {
+            fail("Expected at most " + maxStatements + " statements but " + stats.getStatementCount()
+                    + " were executed:\n" + describe(stats.getShapeCounts()));
+        }
+        Map<String, Integer> repeated = stats.getRepeatedShapes(maxRepeats);
+        if (!repeated.isEmpty()) {
+            fail("Expected each statement at most " + maxRepeats + " times but some were repeated:\n"
+                    + describe(repeated));
+        }
+        return stats;
+    }
+
+    /**
+     * Выполняет действие и возвращает статистику выполненных им запросов.
+     *
+     * @param action действие.
+     * @return статистика запросов действия.
+     */
+    public static SqlStatementStats record(Action action) throws Exception {
+        SqlStatementStats stats = SqlStatementInspector.start();
+        try {
+            action.run();
+        } finally {
+            SqlStatementInspector.stop(stats);
+        }
+        return stats;
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        return shapes.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Проверяемое действие, например вызов MockMvc.
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws Exception;
+    }
+}